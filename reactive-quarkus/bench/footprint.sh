@@ -0,0 +1,106 @@
+#!/usr/bin/env bash
+# Construye las variantes JVM, nativa y nativa-micro y mide para cada una:
+#   - tiempo desde `docker run` hasta la primera respuesta 200 de la tasa
+#   - RSS del proceso tras el calentamiento y la carga
+#   - throughput en caliente
+# Termina con código 1 si el arranque o el RSS superan los umbrales de
+# bench/footprint-thresholds.env (sobrescribibles por variable de entorno).
+#
+# Requisitos: Docker, MySQL levantado con datos (docker-compose up mysql_db -d)
+# y `hey` (https://github.com/rakyll/hey) en el PATH. Linux: los contenedores
+# usan la red del host para llegar a MySQL en localhost:3306.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+thresholds=$(cat bench/footprint-thresholds.env)
+while IFS='=' read -r key value; do
+    if [[ -z "$key" || "$key" == \#* ]]; then
+        continue
+    fi
+    # Las variables de entorno ya definidas tienen prioridad sobre el fichero
+    if [[ -z "${!key:-}" ]]; then
+        export "$key=$value"
+    fi
+done <<< "$thresholds"
+
+VARIANTS=${VARIANTS:-"jvm native native-micro"}
+SKIP_BUILD=${SKIP_BUILD:-false}
+REQUESTS=${REQUESTS:-20000}
+CONCURRENCY=${CONCURRENCY:-64}
+PAIR=${PAIR:-PEN/USD}
+URL="http://localhost:8080/api/v1/exchange/${PAIR}"
+REPORT=target/footprint-report.csv
+
+build() {
+    local variant=$1
+    case "$variant" in
+        jvm)
+            ./mvnw -B -q package -DskipTests
+            docker build -q -f src/main/docker/Dockerfile.jvm -t reactive-quarkus:jvm . > /dev/null ;;
+        native)
+            ./mvnw -B -q package -DskipTests -Dnative
+            docker build -q -f src/main/docker/Dockerfile.native -t reactive-quarkus:native . > /dev/null ;;
+        native-micro)
+            # Reutiliza el ejecutable de la variante nativa si ya se construyó
+            ls target/*-runner > /dev/null 2>&1 || ./mvnw -B -q package -DskipTests -Dnative
+            docker build -q -f src/main/docker/Dockerfile.native-micro -t reactive-quarkus:native-micro . > /dev/null ;;
+    esac
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+mkdir -p target
+echo "variant,startup_ms,rss_mb,requests_per_sec" > "$REPORT"
+failed=0
+
+for variant in $VARIANTS; do
+    [[ "$SKIP_BUILD" == "true" ]] || build "$variant"
+
+    start=$(now_ms)
+    container=$(docker run -d --rm --network host \
+        -e DATASOURCE_URL="${DATASOURCE_URL:-mysql://localhost:3306/testdb}" \
+        -e DATASOURCE_JDBC_URL="${DATASOURCE_JDBC_URL:-jdbc:mysql://localhost:3306/testdb}" \
+        -e MYSQL_USER="${MYSQL_USER:-admin}" \
+        -e MYSQL_PASSWORD="${MYSQL_PASSWORD:-admin}" \
+        -e QUARKUS_LOG_FILE_ENABLE=false \
+        "reactive-quarkus:${variant}")
+    trap 'docker stop "$container" > /dev/null 2>&1 || true' EXIT
+
+    until curl -sf "$URL" > /dev/null; do
+        if ! docker inspect "$container" > /dev/null 2>&1; then
+            echo "La variante $variant terminó antes de responder" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    startup_ms=$(( $(now_ms) - start ))
+
+    # Calentamiento del JIT y del pool antes de medir
+    hey -n 5000 -c "$CONCURRENCY" "$URL" > /dev/null
+    rps=$(hey -n "$REQUESTS" -c "$CONCURRENCY" "$URL" | awk '/Requests\/sec/ { print $2 }')
+
+    pid=$(docker inspect -f '{{.State.Pid}}' "$container")
+    rss_mb=$(( $(ps -o rss= -p "$pid") / 1024 ))
+
+    docker stop "$container" > /dev/null
+
+    echo "$variant,$startup_ms,$rss_mb,$rps" >> "$REPORT"
+    echo "=== $variant: startup ${startup_ms} ms, RSS ${rss_mb} MiB, ${rps} req/s"
+
+    prefix=$(echo "$variant" | tr 'a-z-' 'A-Z_')
+    max_startup_var="${prefix}_MAX_STARTUP_MS"
+    max_rss_var="${prefix}_MAX_RSS_MB"
+    if (( startup_ms > ${!max_startup_var} )); then
+        echo "REGRESIÓN $variant: arranque ${startup_ms} ms > ${!max_startup_var} ms" >&2
+        failed=1
+    fi
+    if (( rss_mb > ${!max_rss_var} )); then
+        echo "REGRESIÓN $variant: RSS ${rss_mb} MiB > ${!max_rss_var} MiB" >&2
+        failed=1
+    fi
+done
+
+exit "$failed"
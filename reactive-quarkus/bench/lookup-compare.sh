@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Compara la lectura de tasas vía Panache/Hibernate Reactive contra el cliente
+# reactivo de MySQL con sentencia preparada. La caché se desactiva para que
+# cada petición llegue a la base de datos.
+#
+# Requisitos: MySQL levantado (docker-compose up mysql_db -d), paquete construido
+# (./mvnw package) y `hey` (https://github.com/rakyll/hey) en el PATH.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+REQUESTS=${REQUESTS:-20000}
+CONCURRENCY=${CONCURRENCY:-64}
+PAIR=${PAIR:-PEN/USD}
+URL="http://localhost:8080/api/v1/exchange/${PAIR}"
+
+for mode in panache sql; do
+    java -Dexchange.lookup.mode="$mode" \
+         -Dquarkus.cache.enabled=false \
+         -Dquarkus.log.file.enable=false \
+         -jar target/quarkus-app/quarkus-run.jar > "target/bench-${mode}.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "$URL" > /dev/null; do sleep 0.5; done
+
+    # Calentamiento del JIT y del pool antes de medir
+    hey -n 5000 -c "$CONCURRENCY" "$URL" > /dev/null
+    echo "=== lookup mode: $mode"
+    hey -n "$REQUESTS" -c "$CONCURRENCY" "$URL" | grep -E "Requests/sec|Average|50%|99%"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
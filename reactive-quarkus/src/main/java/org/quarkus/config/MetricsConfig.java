@@ -0,0 +1,38 @@
+package org.quarkus.config;
+
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.quarkus.repository.ExchangeRepo;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class MetricsConfig {
+
+    // Request latency, repository calls, and how long reactive pool connections are waited for and held
+    private static final List<String> HISTOGRAMS =
+            List.of("http.server.requests", ExchangeRepo.TIMER, "sql.pool.queue.delay", "sql.pool.usage");
+
+    @Produces
+    @Singleton
+    public MeterFilter latencyHistograms(@ConfigProperty(name = "exchange.metrics.percentiles") double[] percentiles) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAMS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(percentiles)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -1,26 +1,100 @@
 package org.quarkus.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.quarkus.dto.ConversionRequestDTO;
+import org.quarkus.dto.ConversionResultDTO;
+import org.quarkus.dto.IngestResultDTO;
+import org.quarkus.service.ExchangeEventRelay;
+import org.quarkus.service.ExchangeConversionService;
+import org.quarkus.service.ExchangeIngestService;
 import org.quarkus.service.ExchangeService;
 
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
 
 @Path("/api/v1/exchange")
 @Produces("application/json")
 public class ExchangeController {
 
     private final ExchangeService exchangeService;
+    private final ExchangeIngestService exchangeIngestService;
+    private final ExchangeConversionService exchangeConversionService;
+    private final ExchangeEventRelay exchangeEventRelay;
 
-    public ExchangeController(ExchangeService exchangeService) {
+    public ExchangeController(ExchangeService exchangeService, ExchangeIngestService exchangeIngestService,
+            ExchangeConversionService exchangeConversionService, ExchangeEventRelay exchangeEventRelay) {
         this.exchangeService = exchangeService;
+        this.exchangeIngestService = exchangeIngestService;
+        this.exchangeConversionService = exchangeConversionService;
+        this.exchangeEventRelay = exchangeEventRelay;
     }
 
     @GET
     @Path("/{from}/{to}")
-    public Uni<Float> getExchangeRate(@PathParam("from") String fromCurrency, @PathParam("to") String toCurrency) {
+    public Uni<BigDecimal> getExchangeRate(@PathParam("from") String fromCurrency, @PathParam("to") String toCurrency) {
         return exchangeService.getExchangeRate(fromCurrency, toCurrency);
     }
-}
\ No newline at end of file
+
+    @POST
+    @Path("/convert")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Uni<ConversionResultDTO> convert(ConversionRequestDTO request) {
+        return exchangeConversionService.convert(request);
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes("text/csv")
+    @Blocking
+    public IngestResultDTO ingestCsv(InputStream body) throws IOException {
+        return exchangeIngestService.ingestCsv(body);
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Blocking
+    public IngestResultDTO ingestJson(InputStream body) throws IOException {
+        return exchangeIngestService.ingestJson(body);
+    }
+
+    @GET
+    @Path("/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Multi<OutboundSseEvent> events(@HeaderParam("Last-Event-ID") Long lastEventId,
+            @QueryParam("after") Long after, @Context Sse sse) {
+        Long resumeFrom = lastEventId != null ? lastEventId : after;
+        AtomicLong highestSent = new AtomicLong(resumeFrom == null ? 0 : resumeFrom);
+        return exchangeEventRelay.stream(resumeFrom)
+                .map(event -> {
+                    OutboundSseEvent.Builder builder = sse.newEventBuilder()
+                            .name("rate-changed")
+                            .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                            .data(event);
+                    // A late commit carries no SSE id, so the client's Last-Event-ID stays
+                    // at the highest id it has seen and a reconnect does not replay it again
+                    if (event.id() > highestSent.get()) {
+                        highestSent.set(event.id());
+                        builder.id(String.valueOf(event.id()));
+                    }
+                    return builder.build();
+                });
+    }
+}
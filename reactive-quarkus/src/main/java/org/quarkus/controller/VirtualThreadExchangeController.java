@@ -0,0 +1,31 @@
+package org.quarkus.controller;
+
+import java.math.BigDecimal;
+
+import org.quarkus.service.BlockingExchangeService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+
+@Path("/api/v1/vt/exchange")
+@Produces("application/json")
+@IfBuildProperty(name = "exchange.virtual-threads.enabled", stringValue = "true")
+public class VirtualThreadExchangeController {
+
+    private final BlockingExchangeService blockingExchangeService;
+
+    public VirtualThreadExchangeController(BlockingExchangeService blockingExchangeService) {
+        this.blockingExchangeService = blockingExchangeService;
+    }
+
+    @GET
+    @Path("/{from}/{to}")
+    @RunOnVirtualThread
+    public BigDecimal getExchangeRate(@PathParam("from") String fromCurrency, @PathParam("to") String toCurrency) {
+        return blockingExchangeService.getExchangeRate(fromCurrency, toCurrency);
+    }
+}
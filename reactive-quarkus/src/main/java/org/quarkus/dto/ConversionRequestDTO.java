@@ -0,0 +1,13 @@
+package org.quarkus.dto;
+
+import java.math.BigDecimal;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+public record ConversionRequestDTO(
+    String fromCurrency,
+    String toCurrency,
+    BigDecimal amount,
+    BigDecimal[] amounts
+) {}
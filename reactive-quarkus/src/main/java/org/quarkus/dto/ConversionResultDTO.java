@@ -0,0 +1,17 @@
+package org.quarkus.dto;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ConversionResultDTO(
+    String fromCurrency,
+    String toCurrency,
+    BigDecimal exchangeRate,
+    BigDecimal convertedAmount,
+    BigDecimal[] convertedAmounts
+) {}
@@ -0,0 +1,12 @@
+package org.quarkus.dto;
+
+import java.math.BigDecimal;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+public record ExchangeRateDTO(
+    String fromCurrency,
+    String toCurrency,
+    BigDecimal exchangeRate
+) {}
@@ -0,0 +1,15 @@
+package org.quarkus.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+public record ExchangeRateEventDTO(
+    long id,
+    String fromCurrency,
+    String toCurrency,
+    BigDecimal exchangeRate,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,11 @@
+package org.quarkus.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+public record IngestResultDTO(
+    long rows,
+    long batches,
+    long elapsedMillis,
+    double rowsPerSecond
+) {}
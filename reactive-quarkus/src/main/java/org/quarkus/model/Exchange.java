@@ -1,8 +1,9 @@
 package org.quarkus.model;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
 import io.quarkus.runtime.annotations.RegisterForReflection;
@@ -28,11 +29,11 @@ public class Exchange extends PanacheEntityBase {
     @Column(name = "to_currency")
     private String toCurrency;
 
-    @Column(name = "exchange_rate")
-    private float exchangeRate;
+    @Column(name = "exchange_rate", precision = 19, scale = 8)
+    private BigDecimal exchangeRate;
 
-    @Column(name = "updated_at", updatable = true, nullable=true)
-    @CreationTimestamp
+    @Column(name = "updated_at", nullable = false)
+    @UpdateTimestamp
     private LocalDateTime updatedAt;
 
     public Long getId() {
@@ -59,11 +60,11 @@ public class Exchange extends PanacheEntityBase {
         this.toCurrency = toCurrency;
     }
 
-    public float getExchangeRate() {
+    public BigDecimal getExchangeRate() {
         return exchangeRate;
     }
 
-    public void setExchangeRate(float exchangeRate) {
+    public void setExchangeRate(BigDecimal exchangeRate) {
         this.exchangeRate = exchangeRate;
     }
 
@@ -0,0 +1,65 @@
+package org.quarkus.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "exchange_rate_event")
+@RegisterForReflection
+public class ExchangeRateEvent extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_currency", nullable = false)
+    private String fromCurrency;
+
+    @Column(name = "to_currency", nullable = false)
+    private String toCurrency;
+
+    @Column(name = "exchange_rate", precision = 19, scale = 8, nullable = false)
+    private BigDecimal exchangeRate;
+
+    // Filled by the column default so it shares the clock the outbox reader compares against;
+    // not read back after persist.
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ExchangeRateEvent of(Exchange exchange) {
+        ExchangeRateEvent event = new ExchangeRateEvent();
+        event.fromCurrency = exchange.getFromCurrency();
+        event.toCurrency = exchange.getToCurrency();
+        event.exchangeRate = exchange.getExchangeRate();
+        return event;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFromCurrency() {
+        return fromCurrency;
+    }
+
+    public String getToCurrency() {
+        return toCurrency;
+    }
+
+    public BigDecimal getExchangeRate() {
+        return exchangeRate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,42 @@
+package org.quarkus.repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+@IfBuildProperty(name = "exchange.virtual-threads.enabled", stringValue = "true")
+public class BlockingExchangeRepo {
+
+    private static final String FIND_RATE =
+            "SELECT exchange_rate FROM exchange_data WHERE from_currency = ? AND to_currency = ? LIMIT 1";
+
+    private final AgroalDataSource dataSource;
+
+    public BlockingExchangeRepo(AgroalDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @WithSpan("BlockingExchangeRepo.findRate")
+    @Timed(value = ExchangeRepo.TIMER, extraTags = { "operation", "find-rate", "client", "jdbc" })
+    public BigDecimal findRate(String from, String to) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_RATE)) {
+            statement.setString(1, from);
+            statement.setString(2, to);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBigDecimal(1) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read exchange rate " + from + "/" + to, e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.quarkus.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.quarkus.dto.ExchangeRateDTO;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ExchangeBulkWriter {
+
+    // exchange_data.exchange_rate is DECIMAL(19, 8); MySQL rounds extra digits half away from zero
+    private static final int RATE_SCALE = 8;
+    private static final String LOCK_PREFIX = "SELECT from_currency, to_currency, exchange_rate FROM exchange_data"
+            + " WHERE (from_currency, to_currency) IN (";
+    private static final String LOCK_SUFFIX = ") FOR UPDATE";
+    private static final String UPSERT_PREFIX = "INSERT INTO exchange_data (from_currency, to_currency, exchange_rate) VALUES ";
+    private static final String UPSERT_SUFFIX = " AS incoming ON DUPLICATE KEY UPDATE"
+            + " exchange_rate = incoming.exchange_rate, updated_at = CURRENT_TIMESTAMP(6)";
+    private static final String OUTBOX_PREFIX = "INSERT INTO exchange_rate_event (from_currency, to_currency, exchange_rate) VALUES ";
+
+    private final Pool client;
+
+    public ExchangeBulkWriter(Pool client) {
+        this.client = client;
+    }
+
+    // The batch's pairs are locked and read first, so only new or changed rates are
+    // written and get an outbox event; resending the same rates touches nothing.
+    public Uni<Integer> upsertBatch(List<ExchangeRateDTO> batch) {
+        StringBuilder pairs = new StringBuilder(batch.size() * 8);
+        List<Object> keys = new ArrayList<>(batch.size() * 2);
+        for (int i = 0; i < batch.size(); i++) {
+            ExchangeRateDTO rate = batch.get(i);
+            pairs.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            keys.add(rate.fromCurrency());
+            keys.add(rate.toCurrency());
+        }
+        return client.withTransaction(connection -> connection.preparedQuery(LOCK_PREFIX + pairs + LOCK_SUFFIX)
+                .execute(Tuple.from(keys))
+                .chain(current -> write(connection, changedRates(batch, currentRates(current))))
+                .replaceWith(batch.size()));
+    }
+
+    private static Uni<Void> write(SqlConnection connection, List<ExchangeRateDTO> changed) {
+        if (changed.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        StringBuilder rows = new StringBuilder(changed.size() * 10);
+        List<Object> values = new ArrayList<>(changed.size() * 3);
+        for (int i = 0; i < changed.size(); i++) {
+            ExchangeRateDTO rate = changed.get(i);
+            rows.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            values.add(rate.fromCurrency());
+            values.add(rate.toCurrency());
+            values.add(Numeric.create(rate.exchangeRate()));
+        }
+        String upsert = UPSERT_PREFIX + rows + UPSERT_SUFFIX;
+        String outbox = OUTBOX_PREFIX + rows;
+        Tuple parameters = Tuple.from(values);
+        return connection.preparedQuery(upsert)
+                .execute(parameters)
+                .chain(() -> connection.preparedQuery(outbox).execute(parameters))
+                .replaceWithVoid();
+    }
+
+    private static Map<String, BigDecimal> currentRates(RowSet<Row> rows) {
+        Map<String, BigDecimal> current = new HashMap<>(rows.size() * 2);
+        for (Row row : rows) {
+            current.put(key(row.getString(0), row.getString(1)), row.getBigDecimal(2));
+        }
+        return current;
+    }
+
+    // Rows are compared at the column's scale and in batch order, so a pair repeated in
+    // the batch is emitted each time it differs from the value before it.
+    static List<ExchangeRateDTO> changedRates(List<ExchangeRateDTO> batch, Map<String, BigDecimal> current) {
+        List<ExchangeRateDTO> changed = new ArrayList<>();
+        for (ExchangeRateDTO rate : batch) {
+            BigDecimal stored = rate.exchangeRate().setScale(RATE_SCALE, RoundingMode.HALF_UP);
+            BigDecimal previous = current.put(key(rate.fromCurrency(), rate.toCurrency()), stored);
+            if (previous == null || previous.compareTo(stored) != 0) {
+                changed.add(rate);
+            }
+        }
+        return changed;
+    }
+
+    private static String key(String fromCurrency, String toCurrency) {
+        return fromCurrency + '/' + toCurrency;
+    }
+}
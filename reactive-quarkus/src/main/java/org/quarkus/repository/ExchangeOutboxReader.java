@@ -0,0 +1,79 @@
+package org.quarkus.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.quarkus.dto.ExchangeRateEventDTO;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ExchangeOutboxReader {
+
+    // AUTO_INCREMENT ids are assigned at insert but become visible at commit, so a
+    // later id can be read before an earlier one. Rows are only read once they are
+    // older than the settle window, which keeps most of them in id order. created_at
+    // is the insert time, so a transaction that commits later than the window leaves a
+    // gap behind the cursor; the relay re-reads those ids with FIND_BY_IDS.
+    private static final String FIND_AFTER = "SELECT id, from_currency, to_currency, exchange_rate, created_at"
+            + " FROM exchange_rate_event"
+            + " WHERE id > ? AND created_at < CURRENT_TIMESTAMP(6) - INTERVAL ? MICROSECOND"
+            + " ORDER BY id LIMIT ?";
+    private static final String FIND_BY_IDS = "SELECT id, from_currency, to_currency, exchange_rate, created_at"
+            + " FROM exchange_rate_event WHERE id IN (%s) ORDER BY id";
+    private static final String FIND_LAST_ID = "SELECT COALESCE(MAX(id), 0) FROM exchange_rate_event";
+    private static final String DELETE_OLDER_THAN =
+            "DELETE FROM exchange_rate_event WHERE created_at < CURRENT_TIMESTAMP(6) - INTERVAL ? SECOND";
+
+    private final Pool client;
+    private final long settleMicros;
+
+    public ExchangeOutboxReader(Pool client,
+            @ConfigProperty(name = "exchange.outbox.settle", defaultValue = "PT0.5S") Duration settle) {
+        this.client = client;
+        this.settleMicros = settle.toNanos() / 1_000;
+    }
+
+    public Uni<List<ExchangeRateEventDTO>> findAfter(long id, int limit) {
+        return client.preparedQuery(FIND_AFTER)
+                .execute(Tuple.of(id, settleMicros, limit))
+                .map(ExchangeOutboxReader::toEvents);
+    }
+
+    public Uni<List<ExchangeRateEventDTO>> findByIds(Collection<Long> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return client.preparedQuery(FIND_BY_IDS.formatted(placeholders))
+                .execute(Tuple.from(new ArrayList<Object>(ids)))
+                .map(ExchangeOutboxReader::toEvents);
+    }
+
+    public Uni<Long> findLastId() {
+        return client.preparedQuery(FIND_LAST_ID)
+                .execute()
+                .map(rows -> rows.iterator().next().getLong(0));
+    }
+
+    public Uni<Integer> deleteOlderThan(Duration retention) {
+        return client.preparedQuery(DELETE_OLDER_THAN)
+                .execute(Tuple.of(retention.toSeconds()))
+                .map(rows -> rows.rowCount());
+    }
+
+    private static List<ExchangeRateEventDTO> toEvents(RowSet<Row> rows) {
+        List<ExchangeRateEventDTO> events = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            events.add(new ExchangeRateEventDTO(row.getLong(0), row.getString(1), row.getString(2),
+                    row.getBigDecimal(3), row.getLocalDateTime(4)));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,36 @@
+package org.quarkus.repository;
+
+import java.math.BigDecimal;
+
+import io.micrometer.core.annotation.Timed;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ExchangeRateReader {
+
+    private static final String FIND_RATE =
+            "SELECT exchange_rate FROM exchange_data WHERE from_currency = ? AND to_currency = ? LIMIT 1";
+
+    private final Pool client;
+
+    public ExchangeRateReader(Pool client) {
+        this.client = client;
+    }
+
+    @WithSpan("ExchangeRateReader.findRate")
+    @Timed(value = ExchangeRepo.TIMER, extraTags = { "operation", "find-rate", "client", "reactive-sql" })
+    public Uni<BigDecimal> findRate(String from, String to) {
+        return client.preparedQuery(FIND_RATE)
+                .execute(Tuple.of(from, to))
+                .map(rows -> {
+                    RowIterator<Row> iterator = rows.iterator();
+                    return iterator.hasNext() ? iterator.next().getBigDecimal(0) : null;
+                });
+    }
+}
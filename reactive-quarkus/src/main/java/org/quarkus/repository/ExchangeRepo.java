@@ -1,7 +1,10 @@
 package org.quarkus.repository;
 
 import org.quarkus.model.Exchange;
+import org.quarkus.model.ExchangeRateEvent;
 
+import io.micrometer.core.annotation.Timed;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
@@ -10,13 +13,21 @@ import jakarta.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
 public class ExchangeRepo implements PanacheRepository<Exchange> {
+
+    public static final String TIMER = "exchange.repository";
+
     @WithSession
+    @WithSpan("ExchangeRepo.findByFromAndToCurrency")
+    @Timed(value = ExchangeRepo.TIMER, extraTags = { "operation", "find-rate", "client", "hibernate-reactive" })
     public Uni<Exchange> findByFromAndToCurrency(String from, String to) {
         return find("fromCurrency = ?1 and toCurrency = ?2", from, to).firstResult();
     }
 
     @WithTransaction
+    @WithSpan("ExchangeRepo.save")
+    @Timed(value = ExchangeRepo.TIMER, extraTags = { "operation", "save", "client", "hibernate-reactive" })
     public Uni<Exchange> save(Exchange exchange) {
-        return persist(exchange);
+        return persist(exchange)
+                .call(saved -> ExchangeRateEvent.of(saved).persist());
     }
-}
\ No newline at end of file
+}
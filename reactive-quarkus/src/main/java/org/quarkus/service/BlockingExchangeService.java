@@ -0,0 +1,46 @@
+package org.quarkus.service;
+
+import java.math.BigDecimal;
+
+import org.quarkus.repository.BlockingExchangeRepo;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.cache.CacheResult;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.NotFoundException;
+
+@ApplicationScoped
+@IfBuildProperty(name = "exchange.virtual-threads.enabled", stringValue = "true")
+public class BlockingExchangeService {
+
+    private final BlockingExchangeRepo blockingExchangeRepo;
+    private final MissingPairCache missingPairCache;
+
+    public BlockingExchangeService(BlockingExchangeRepo blockingExchangeRepo, MissingPairCache missingPairCache) {
+        this.blockingExchangeRepo = blockingExchangeRepo;
+        this.missingPairCache = missingPairCache;
+    }
+
+    public BigDecimal getExchangeRate(String fromCurrency, String toCurrency) {
+        String from = CurrencyCodes.normalize(fromCurrency);
+        String to = CurrencyCodes.normalize(toCurrency);
+        if (missingPairCache.contains(from, to)) {
+            throw ExchangeService.notFound(from, to);
+        }
+        try {
+            return findExchangeRate(from, to);
+        } catch (NotFoundException e) {
+            missingPairCache.add(from, to);
+            throw e;
+        }
+    }
+
+    @CacheResult(cacheName = ExchangeService.EXCHANGE_RATES_CACHE)
+    BigDecimal findExchangeRate(String fromCurrency, String toCurrency) {
+        BigDecimal rate = blockingExchangeRepo.findRate(fromCurrency, toCurrency);
+        if (rate == null) {
+            throw ExchangeService.notFound(fromCurrency, toCurrency);
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,26 @@
+package org.quarkus.service;
+
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.BadRequestException;
+
+public final class CurrencyCodes {
+
+    private static final Set<String> ISO_4217 = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private CurrencyCodes() {
+    }
+
+    public static String normalize(String code) {
+        String normalized = code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+        if (!ISO_4217.contains(normalized)) {
+            throw new BadRequestException("Unknown ISO 4217 currency code: " + code);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,71 @@
+package org.quarkus.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.quarkus.dto.ConversionRequestDTO;
+import org.quarkus.dto.ConversionResultDTO;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+
+@ApplicationScoped
+public class ExchangeConversionService {
+
+    private final ExchangeService exchangeService;
+    private final int scale;
+
+    public ExchangeConversionService(ExchangeService exchangeService,
+            @ConfigProperty(name = "exchange.convert.scale", defaultValue = "2") int scale) {
+        this.exchangeService = exchangeService;
+        this.scale = scale;
+    }
+
+    public Uni<ConversionResultDTO> convert(ConversionRequestDTO request) {
+        if (request.fromCurrency() == null || request.toCurrency() == null) {
+            return Uni.createFrom().failure(new BadRequestException("fromCurrency and toCurrency are required"));
+        }
+        if (request.amount() == null && request.amounts() == null) {
+            return Uni.createFrom().failure(new BadRequestException("amount or amounts is required"));
+        }
+        if (hasInvalidAmount(request.amount(), request.amounts())) {
+            return Uni.createFrom().failure(new BadRequestException("Amounts must be present and not negative"));
+        }
+        return exchangeService.getExchangeRate(request.fromCurrency(), request.toCurrency())
+                .map(rate -> new ConversionResultDTO(
+                        request.fromCurrency(),
+                        request.toCurrency(),
+                        rate,
+                        request.amount() == null ? null : convert(request.amount(), rate),
+                        request.amounts() == null ? null : convert(request.amounts(), rate)));
+    }
+
+    private BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        return amount.multiply(rate).setScale(scale, RoundingMode.HALF_EVEN);
+    }
+
+    // Amounts are money: every element keeps the exact decimal value and scale of the single amount.
+    private BigDecimal[] convert(BigDecimal[] amounts, BigDecimal rate) {
+        BigDecimal[] converted = new BigDecimal[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            converted[i] = convert(amounts[i], rate);
+        }
+        return converted;
+    }
+
+    private static boolean hasInvalidAmount(BigDecimal amount, BigDecimal[] amounts) {
+        if (amount != null && amount.signum() < 0) {
+            return true;
+        }
+        if (amounts != null) {
+            for (BigDecimal value : amounts) {
+                if (value == null || value.signum() < 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
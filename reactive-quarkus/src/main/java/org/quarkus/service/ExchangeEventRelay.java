@@ -0,0 +1,162 @@
+package org.quarkus.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.quarkus.dto.ExchangeRateEventDTO;
+import org.quarkus.repository.ExchangeOutboxReader;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+@ApplicationScoped
+public class ExchangeEventRelay {
+
+    private static final Logger LOG = Logger.getLogger(ExchangeEventRelay.class);
+    private static final int MAX_TRACKED_GAPS = 10_000;
+
+    private final ExchangeOutboxReader outboxReader;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int pageSize;
+    private final Duration retention;
+    private final Duration purgeInterval;
+    private final long gapTimeoutNanos;
+    private final BroadcastProcessor<ExchangeRateEventDTO> processor = BroadcastProcessor.create();
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Ids below the cursor that were not visible when it moved past them, with the time
+    // (System.nanoTime) after which they are given up as rolled back
+    private final NavigableMap<Long, Long> gaps = new ConcurrentSkipListMap<>();
+    private Cancellable polling;
+    private Cancellable purging;
+
+    public ExchangeEventRelay(ExchangeOutboxReader outboxReader,
+            @ConfigProperty(name = "exchange.outbox.relay.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "exchange.outbox.poll-interval", defaultValue = "PT1S") Duration pollInterval,
+            @ConfigProperty(name = "exchange.outbox.page-size", defaultValue = "500") int pageSize,
+            @ConfigProperty(name = "exchange.outbox.retention", defaultValue = "P7D") Duration retention,
+            @ConfigProperty(name = "exchange.outbox.purge-interval", defaultValue = "PT1H") Duration purgeInterval,
+            @ConfigProperty(name = "exchange.outbox.gap-timeout", defaultValue = "PT5M") Duration gapTimeout) {
+        this.outboxReader = outboxReader;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.pageSize = pageSize;
+        this.retention = retention;
+        this.purgeInterval = purgeInterval;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        polling = Multi.createFrom().ticks().every(pollInterval)
+                .onOverflow().drop()
+                .onItem().transformToUniAndConcatenate(tick -> poll())
+                .subscribe().with(ignored -> {}, failure -> LOG.error("Outbox relay stopped", failure));
+        purging = Multi.createFrom().ticks().every(purgeInterval)
+                .onOverflow().drop()
+                .onItem().transformToUniAndConcatenate(tick -> outboxReader.deleteOlderThan(retention)
+                        .onFailure().invoke(failure -> LOG.warn("Outbox purge failed", failure))
+                        .onFailure().recoverWithItem(0))
+                .subscribe().with(deleted -> {});
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (polling != null) {
+            polling.cancel();
+            purging.cancel();
+        }
+        processor.onComplete();
+    }
+
+    // Events after lastEventId are replayed from the outbox, then the stream follows the
+    // relay. Live events are buffered from the start so none are lost during the replay,
+    // and the ones the replay already read are dropped. Late commits can arrive live with
+    // a lower id than events already sent.
+    public Multi<ExchangeRateEventDTO> stream(Long lastEventId) {
+        UnicastProcessor<ExchangeRateEventDTO> live = UnicastProcessor.create();
+        Cancellable subscription = processor.subscribe().with(live::onNext, live::onError, live::onComplete);
+        if (lastEventId == null) {
+            return live.onTermination().invoke(subscription::cancel);
+        }
+        Set<Long> replayed = new HashSet<>();
+        Multi<ExchangeRateEventDTO> replay = pages(lastEventId).invoke(e -> replayed.add(e.id()));
+        return Multi.createBy().concatenating().streams(replay, live.select().where(e -> !replayed.contains(e.id())))
+                .onTermination().invoke(subscription::cancel);
+    }
+
+    Uni<Void> poll() {
+        Uni<Long> start = cursor.get() >= 0
+                ? Uni.createFrom().item(cursor.get())
+                : outboxReader.findLastId().invoke(cursor::set);
+        return start
+                .call(this::recheckGaps)
+                .onItem().transformToMulti(this::pages)
+                .invoke(e -> {
+                    trackGaps(cursor.get(), e.id());
+                    cursor.set(e.id());
+                    processor.onNext(e);
+                })
+                .collect().last()
+                .replaceWithVoid()
+                .onFailure().invoke(failure -> LOG.warn("Outbox poll failed", failure))
+                .onFailure().recoverWithNull();
+    }
+
+    private Uni<Void> recheckGaps() {
+        long now = System.nanoTime();
+        int tracked = gaps.size();
+        gaps.values().removeIf(deadline -> deadline - now <= 0);
+        if (gaps.size() < tracked) {
+            LOG.warnf("Outbox relay gave up on %d event ids that never became visible", tracked - gaps.size());
+        }
+        if (gaps.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Long> pending = gaps.keySet().stream().limit(pageSize).toList();
+        return outboxReader.findByIds(pending)
+                .invoke(found -> found.forEach(e -> {
+                    gaps.remove(e.id());
+                    processor.onNext(e);
+                }))
+                .replaceWithVoid();
+    }
+
+    private void trackGaps(long previous, long next) {
+        long deadline = System.nanoTime() + gapTimeoutNanos;
+        for (long id = previous + 1; id < next; id++) {
+            if (gaps.size() >= MAX_TRACKED_GAPS) {
+                LOG.warnf("Outbox relay is tracking %d missing ids, not waiting for ids %d to %d", gaps.size(), id, next - 1);
+                return;
+            }
+            gaps.put(id, deadline);
+        }
+    }
+
+    private Multi<ExchangeRateEventDTO> pages(long after) {
+        return Multi.createBy().repeating()
+                .uni(() -> new AtomicLong(after), position -> outboxReader.findAfter(position.get(), pageSize)
+                        .invoke(page -> {
+                            if (!page.isEmpty()) {
+                                position.set(page.get(page.size() - 1).id());
+                            }
+                        }))
+                .whilst(page -> page.size() == pageSize)
+                .onItem().<ExchangeRateEventDTO>disjoint();
+    }
+}
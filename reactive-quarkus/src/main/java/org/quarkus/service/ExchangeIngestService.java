@@ -0,0 +1,136 @@
+package org.quarkus.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.quarkus.dto.ExchangeRateDTO;
+import org.quarkus.dto.IngestResultDTO;
+import org.quarkus.repository.ExchangeBulkWriter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+
+@ApplicationScoped
+public class ExchangeIngestService {
+
+    private static final Logger LOG = Logger.getLogger(ExchangeIngestService.class);
+
+    private final ExchangeBulkWriter exchangeBulkWriter;
+    private final ObjectMapper objectMapper;
+    private final ExchangeService exchangeService;
+    private final int batchSize;
+
+    public ExchangeIngestService(ExchangeBulkWriter exchangeBulkWriter, ObjectMapper objectMapper, ExchangeService exchangeService,
+            @ConfigProperty(name = "exchange.ingest.batch-size", defaultValue = "500") int batchSize) {
+        this.exchangeBulkWriter = exchangeBulkWriter;
+        this.objectMapper = objectMapper;
+        this.exchangeService = exchangeService;
+        this.batchSize = batchSize;
+    }
+
+    // Both parsers run on a worker thread and only hold one batch in memory;
+    // batches already written stay committed if a later row is rejected.
+    public IngestResultDTO ingestCsv(InputStream body) throws IOException {
+        Ingestion ingestion = new Ingestion();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.toLowerCase().startsWith("from"))) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != 3) {
+                    throw new BadRequestException("Invalid CSV row at line " + lineNumber);
+                }
+                try {
+                    ingestion.add(new ExchangeRateDTO(columns[0].trim(), columns[1].trim(), new BigDecimal(columns[2].trim())));
+                } catch (NumberFormatException e) {
+                    throw new BadRequestException("Invalid exchange rate at line " + lineNumber);
+                }
+            }
+        }
+        return ingestion.finish();
+    }
+
+    public IngestResultDTO ingestJson(InputStream body) throws IOException {
+        Ingestion ingestion = new Ingestion();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of exchange rates");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new BadRequestException("Expected an exchange rate object at element " + (ingestion.received() + 1));
+                }
+                ingestion.add(objectMapper.readValue(parser, ExchangeRateDTO.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return ingestion.finish();
+    }
+
+    private class Ingestion {
+        private final long start = System.nanoTime();
+        private final List<ExchangeRateDTO> batch = new ArrayList<>(batchSize);
+        private long rows;
+        private long batches;
+
+        void add(ExchangeRateDTO rate) {
+            long row = received() + 1;
+            if (rate.fromCurrency() == null || rate.fromCurrency().isBlank()
+                    || rate.toCurrency() == null || rate.toCurrency().isBlank() || rate.exchangeRate() == null) {
+                throw new BadRequestException("Currency codes and exchange rate are required (row " + row + ")");
+            }
+            if (rate.exchangeRate().signum() <= 0) {
+                throw new BadRequestException("Exchange rate must be positive (row " + row + ")");
+            }
+            batch.add(new ExchangeRateDTO(CurrencyCodes.normalize(rate.fromCurrency()), CurrencyCodes.normalize(rate.toCurrency()),
+                    rate.exchangeRate()));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        long received() {
+            return rows + batch.size();
+        }
+
+        IngestResultDTO finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - start;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+            LOG.infof("Ingested %d exchange rates in %d batches (%.0f rows/s)", rows, batches, rowsPerSecond);
+            return new IngestResultDTO(rows, batches, elapsedNanos / 1_000_000, rowsPerSecond);
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            rows += exchangeBulkWriter.upsertBatch(batch).await().indefinitely();
+            batches++;
+            // upsertBatch emits after its transaction commits
+            for (ExchangeRateDTO rate : batch) {
+                exchangeService.evict(rate.fromCurrency(), rate.toCurrency()).await().indefinitely();
+            }
+            batch.clear();
+        }
+    }
+}
@@ -1,23 +1,88 @@
 package org.quarkus.service;
 
+import java.math.BigDecimal;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.quarkus.model.Exchange;
+import org.quarkus.repository.ExchangeRateReader;
 import org.quarkus.repository.ExchangeRepo;
 
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.NotFoundException;
 
 @ApplicationScoped
 public class ExchangeService {
 
+    public static final String EXCHANGE_RATES_CACHE = "exchange-rates";
+
     private final ExchangeRepo exchangeRepo;
+    private final ExchangeRateReader exchangeRateReader;
+    private final MissingPairCache missingPairCache;
+    private final Cache exchangeRatesCache;
+    private final boolean panacheLookup;
     
-    public ExchangeService(ExchangeRepo exchangeRepo) {
+    public ExchangeService(ExchangeRepo exchangeRepo, ExchangeRateReader exchangeRateReader, MissingPairCache missingPairCache,
+            @CacheName(EXCHANGE_RATES_CACHE) Cache exchangeRatesCache,
+            @ConfigProperty(name = "exchange.lookup.mode", defaultValue = "sql") String lookupMode) {
         this.exchangeRepo = exchangeRepo;
+        this.exchangeRateReader = exchangeRateReader;
+        this.missingPairCache = missingPairCache;
+        this.exchangeRatesCache = exchangeRatesCache;
+        this.panacheLookup = "panache".equalsIgnoreCase(lookupMode);
     }
-    
-    public Uni<Float> getExchangeRate(String fromCurrency, String toCurrency) {
-        return exchangeRepo.findByFromAndToCurrency(fromCurrency, toCurrency)
-                .onItem()
-                .ifNotNull()
-                .transform(exchange -> exchange.getExchangeRate());
+
+    public Uni<BigDecimal> getExchangeRate(String fromCurrency, String toCurrency) {
+        String from;
+        String to;
+        try {
+            from = CurrencyCodes.normalize(fromCurrency);
+            to = CurrencyCodes.normalize(toCurrency);
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
+        }
+        if (missingPairCache.contains(from, to)) {
+            return Uni.createFrom().failure(notFound(from, to));
+        }
+        return findExchangeRate(from, to)
+                .onFailure(NotFoundException.class).invoke(() -> missingPairCache.add(from, to));
+    }
+
+    // Failures are not cached, so unknown pairs only reach the short-lived missing-pair cache.
+    @CacheResult(cacheName = EXCHANGE_RATES_CACHE)
+    Uni<BigDecimal> findExchangeRate(String fromCurrency, String toCurrency) {
+        Uni<BigDecimal> rate = panacheLookup
+                ? exchangeRepo.findByFromAndToCurrency(fromCurrency, toCurrency)
+                        .onItem().ifNotNull().transform(exchange -> exchange.getExchangeRate())
+                : exchangeRateReader.findRate(fromCurrency, toCurrency);
+        return rate.onItem().ifNull().failWith(() -> notFound(fromCurrency, toCurrency));
+    }
+
+    // ExchangeRepo.save only emits once its transaction has committed, so a concurrent
+    // lookup can no longer re-cache the previous rate after the eviction.
+    // Codes are stored normalized so every write lands on the key lookups read and evict.
+    public Uni<Exchange> save(Exchange exchange) {
+        try {
+            exchange.setFromCurrency(CurrencyCodes.normalize(exchange.getFromCurrency()));
+            exchange.setToCurrency(CurrencyCodes.normalize(exchange.getToCurrency()));
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
+        }
+        return exchangeRepo.save(exchange)
+                .call(saved -> evict(saved.getFromCurrency(), saved.getToCurrency()));
+    }
+
+    // Expects normalized codes; call it only after the write has committed.
+    public Uni<Void> evict(String from, String to) {
+        return exchangeRatesCache.invalidate(new CompositeCacheKey(from, to))
+                .call(() -> missingPairCache.remove(from, to));
+    }
+
+    static NotFoundException notFound(String from, String to) {
+        return new NotFoundException("No exchange rate for " + from + "/" + to);
     }
-}
\ No newline at end of file
+}
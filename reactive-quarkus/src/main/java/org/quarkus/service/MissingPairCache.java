@@ -0,0 +1,38 @@
+package org.quarkus.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.CompositeCacheKey;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+// Remembers pairs that had no row so repeated lookups of unknown pairs skip MySQL.
+// Size and TTL are configured on the cache; writes to a pair invalidate its entry.
+@ApplicationScoped
+public class MissingPairCache {
+
+    public static final String EXCHANGE_RATES_MISSING_CACHE = "exchange-rates-missing";
+
+    private static final CompletableFuture<Boolean> MISSING = CompletableFuture.completedFuture(Boolean.TRUE);
+
+    private final Cache cache;
+
+    public MissingPairCache(@CacheName(EXCHANGE_RATES_MISSING_CACHE) Cache cache) {
+        this.cache = cache;
+    }
+
+    public boolean contains(String from, String to) {
+        return cache.as(CaffeineCache.class).getIfPresent(new CompositeCacheKey(from, to)) != null;
+    }
+
+    public void add(String from, String to) {
+        cache.as(CaffeineCache.class).put(new CompositeCacheKey(from, to), MISSING);
+    }
+
+    public Uni<Void> remove(String from, String to) {
+        return cache.invalidate(new CompositeCacheKey(from, to));
+    }
+}
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+-- Databases created by the former init/init.sql already have the table and sample row.
+--changeset exchange:1-create-exchange-data
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'exchange_data'
+CREATE TABLE exchange_data (
+    id SERIAL PRIMARY KEY,
+    from_currency VARCHAR(15) NOT NULL,
+    to_currency VARCHAR(15) NOT NULL,
+    exchange_rate FLOAT NOT NULL
+);
+
+INSERT INTO exchange_data (from_currency, to_currency, exchange_rate)
+VALUES ('PEN', 'USD', 3.75);
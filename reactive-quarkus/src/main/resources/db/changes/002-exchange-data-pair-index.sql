@@ -0,0 +1,25 @@
+--liquibase formatted sql
+
+-- updated_at used to be added by Hibernate auto-DDL only; define it explicitly.
+--changeset exchange:2-add-updated-at
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'exchange_data' AND column_name = 'updated_at'
+ALTER TABLE exchange_data ADD COLUMN updated_at DATETIME(6) NULL;
+
+--changeset exchange:3-define-updated-at
+UPDATE exchange_data SET updated_at = CURRENT_TIMESTAMP(6) WHERE updated_at IS NULL;
+ALTER TABLE exchange_data
+    MODIFY COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- Keep the most recent row for each pair before enforcing uniqueness. InnoDB has no
+-- INCLUDE clause: the unique key enforces one row per pair and the (from, to, rate)
+-- key lets the rate lookup be answered from the index alone.
+--changeset exchange:4-pair-index
+DELETE older FROM exchange_data older
+JOIN exchange_data newer
+    ON older.from_currency = newer.from_currency
+   AND older.to_currency = newer.to_currency
+   AND older.id < newer.id;
+ALTER TABLE exchange_data
+    ADD UNIQUE KEY uk_exchange_data_pair (from_currency, to_currency),
+    ADD KEY ix_exchange_data_pair_rate (from_currency, to_currency, exchange_rate);
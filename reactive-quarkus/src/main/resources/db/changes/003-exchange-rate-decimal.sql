@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+-- FLOAT rounds rates to ~7 significant digits; store them as fixed-precision decimals.
+--changeset exchange:5-exchange-rate-decimal
+ALTER TABLE exchange_data MODIFY COLUMN exchange_rate DECIMAL(19, 8) NOT NULL;
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+-- Transactional outbox: every rate write appends a row in the same transaction,
+-- and the relay streams rows by ascending id instead of consumers polling exchange_data.
+--changeset exchange:6-exchange-rate-event
+CREATE TABLE exchange_rate_event (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    from_currency VARCHAR(15) NOT NULL,
+    to_currency VARCHAR(15) NOT NULL,
+    exchange_rate DECIMAL(19, 8) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    KEY ix_exchange_rate_event_created_at (created_at)
+);
@@ -0,0 +1,115 @@
+package org.quarkus.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Compares the Uni-based endpoint against the blocking JDBC endpoint running on
+ * virtual threads. Run with {@code ./mvnw test -Pload}; Docker is required. The report is
+ * logged and written to {@code target/load-report.txt}.
+ */
+@QuarkusTest
+@Tag("load")
+@WithTestResource(MySqlTestResource.class)
+@TestProfile(VirtualThreadComparisonProfile.class)
+class ExchangeLoadTest {
+
+    private static final Logger LOG = Logger.getLogger(ExchangeLoadTest.class);
+
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+
+    @Test
+    void compareEventLoopAndVirtualThreadModes() throws Exception {
+        int port = ConfigProvider.getConfig().getValue("quarkus.http.test-port", Integer.class);
+        URI reactive = URI.create("http://localhost:" + port + "/api/v1/exchange/PEN/USD");
+        URI virtualThreads = URI.create("http://localhost:" + port + "/api/v1/vt/exchange/PEN/USD");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder().executor(executor).build();
+
+            run(client, executor, reactive, WARMUP_REQUESTS);
+            LoadResult reactiveResult = run(client, executor, reactive, REQUESTS);
+            run(client, executor, virtualThreads, WARMUP_REQUESTS);
+            LoadResult virtualThreadResult = run(client, executor, virtualThreads, REQUESTS);
+
+            String report = String.format("requests=%d concurrency=%d%n%s%n%s%n", REQUESTS, CONCURRENCY,
+                    reactiveResult.format("event-loop (Uni, reactive MySQL)"),
+                    virtualThreadResult.format("virtual threads (blocking JDBC)"));
+            LOG.info(report);
+            Files.writeString(Path.of("target", "load-report.txt"), report);
+
+            assertEquals(0, reactiveResult.errors(), "event-loop mode errors");
+            assertEquals(0, virtualThreadResult.errors(), "virtual-thread mode errors");
+        }
+    }
+
+    private LoadResult run(HttpClient client, ExecutorService executor, URI uri, int requests) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            inFlight.acquire();
+            executor.execute(() -> {
+                long sent = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                } catch (IOException | InterruptedException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - sent;
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(CONCURRENCY);
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new LoadResult(requests, elapsed, latencies, errors.get());
+    }
+
+    private record LoadResult(int requests, long elapsedNanos, long[] sortedLatencies, int errors) {
+
+        double throughput() {
+            return requests * 1_000_000_000d / elapsedNanos;
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000d;
+        }
+
+        String format(String mode) {
+            return String.format("%-34s %10.0f req/s  p50=%7.2f ms  p99=%7.2f ms  errors=%d",
+                    mode, throughput(), percentileMillis(50), percentileMillis(99), errors);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.quarkus.load;
+
+import java.util.Map;
+
+import org.testcontainers.containers.MySQLContainer;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+public class MySqlTestResource implements QuarkusTestResourceLifecycleManager {
+
+    private MySQLContainer<?> mysql;
+
+    @Override
+    public Map<String, String> start() {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("testdb")
+                .withUsername("admin")
+                .withPassword("admin");
+        mysql.start();
+        return Map.of(
+                "quarkus.datasource.reactive.url", "mysql://" + mysql.getHost() + ":" + mysql.getFirstMappedPort() + "/testdb",
+                "quarkus.datasource.jdbc.url", mysql.getJdbcUrl(),
+                "quarkus.datasource.username", mysql.getUsername(),
+                "quarkus.datasource.password", mysql.getPassword(),
+                // Every request must reach MySQL so both modes are compared on the database path
+                "quarkus.cache.enabled", "false");
+    }
+
+    @Override
+    public void stop() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+}
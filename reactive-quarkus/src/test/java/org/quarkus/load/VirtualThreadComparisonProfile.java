@@ -0,0 +1,19 @@
+package org.quarkus.load;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+/**
+ * Builds the application with the virtual-thread comparison endpoint and a JDBC pool
+ * as large as the reactive one, so both modes are measured with the same connections.
+ */
+public class VirtualThreadComparisonProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "exchange.virtual-threads.enabled", "true",
+                "quarkus.datasource.jdbc.max-size", "20");
+    }
+}
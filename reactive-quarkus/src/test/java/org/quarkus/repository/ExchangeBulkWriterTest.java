@@ -0,0 +1,38 @@
+package org.quarkus.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.quarkus.dto.ExchangeRateDTO;
+
+class ExchangeBulkWriterTest {
+
+    @Test
+    void onlyNewOrChangedRatesAreWritten() {
+        Map<String, BigDecimal> current = new HashMap<>(Map.of(
+                "USD/PEN", new BigDecimal("3.75000000"),
+                "EUR/PEN", new BigDecimal("4.10000000")));
+        ExchangeRateDTO unchanged = new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.75"));
+        ExchangeRateDTO roundsToTheSameValue = new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.750000001"));
+        ExchangeRateDTO changed = new ExchangeRateDTO("EUR", "PEN", new BigDecimal("4.12"));
+        ExchangeRateDTO added = new ExchangeRateDTO("GBP", "PEN", new BigDecimal("4.80"));
+
+        assertEquals(List.of(changed, added),
+                ExchangeBulkWriter.changedRates(List.of(unchanged, roundsToTheSameValue, changed, added), current));
+    }
+
+    @Test
+    void aPairRepeatedInTheBatchIsComparedWithItsPreviousRow() {
+        Map<String, BigDecimal> current = new HashMap<>(Map.of("USD/PEN", new BigDecimal("3.75000000")));
+        ExchangeRateDTO up = new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.80"));
+        ExchangeRateDTO again = new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.80"));
+        ExchangeRateDTO back = new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.75"));
+
+        assertEquals(List.of(up, back), ExchangeBulkWriter.changedRates(List.of(up, again, back), current));
+    }
+}
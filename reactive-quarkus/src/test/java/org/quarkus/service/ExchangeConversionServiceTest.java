@@ -0,0 +1,64 @@
+package org.quarkus.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.quarkus.dto.ConversionRequestDTO;
+import org.quarkus.dto.ConversionResultDTO;
+
+import jakarta.ws.rs.BadRequestException;
+
+class ExchangeConversionServiceTest {
+
+    private final ExchangeServiceTest.StubRateReader reader = new ExchangeServiceTest.StubRateReader();
+    private final ExchangeConversionService conversionService = new ExchangeConversionService(
+            ExchangeServiceTest.service(reader, new MissingPairCache(ExchangeServiceTest.cache(MissingPairCache.EXCHANGE_RATES_MISSING_CACHE))), 2);
+
+    @Test
+    void arrayAndSingleAmountAgreeOnHalfWayValues() {
+        reader.rates.put("USD/USD", BigDecimal.ONE);
+        reader.rates.put("PEN/USD", new BigDecimal("3.75000000"));
+        String[] boundaries = { "1.015", "1.025", "2.675", "1.005", "0.125", "0.135", "25.5", "0.002", "1234567.885",
+                "90071992547409.915" };
+
+        for (String pair : new String[] { "USD/USD", "PEN/USD" }) {
+            String[] codes = pair.split("/");
+            for (String boundary : boundaries) {
+                ConversionResultDTO result = conversionService.convert(new ConversionRequestDTO(codes[0], codes[1],
+                        new BigDecimal(boundary), new BigDecimal[] { new BigDecimal(boundary) })).await().indefinitely();
+
+                assertEquals(result.convertedAmount(), result.convertedAmounts()[0], pair + " " + boundary);
+            }
+        }
+    }
+
+    @Test
+    void roundsHalfEvenOnTheDecimalValueAndKeepsTheScale() {
+        reader.rates.put("USD/USD", BigDecimal.ONE);
+
+        ConversionResultDTO result = conversionService.convert(new ConversionRequestDTO("USD", "USD", new BigDecimal("1.015"),
+                new BigDecimal[] { new BigDecimal("1.015"), new BigDecimal("1.025"), new BigDecimal("2.675"), BigDecimal.TEN }))
+                .await().indefinitely();
+
+        assertEquals(new BigDecimal("1.02"), result.convertedAmount());
+        assertArrayEquals(new BigDecimal[] { new BigDecimal("1.02"), new BigDecimal("1.02"), new BigDecimal("2.68"),
+                new BigDecimal("10.00") }, result.convertedAmounts());
+    }
+
+    @Test
+    void rejectsNegativeOrMissingAmounts() {
+        reader.rates.put("PEN/USD", new BigDecimal("3.75"));
+
+        assertThrows(BadRequestException.class, () -> conversionService.convert(
+                new ConversionRequestDTO("PEN", "USD", new BigDecimal("-1"), null)).await().indefinitely());
+        assertThrows(BadRequestException.class, () -> conversionService.convert(
+                new ConversionRequestDTO("PEN", "USD", null, new BigDecimal[] { BigDecimal.TEN, new BigDecimal("-0.01") }))
+                .await().indefinitely());
+        assertThrows(BadRequestException.class, () -> conversionService.convert(
+                new ConversionRequestDTO("PEN", "USD", null, new BigDecimal[] { BigDecimal.TEN, null })).await().indefinitely());
+    }
+}
@@ -0,0 +1,148 @@
+package org.quarkus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.quarkus.dto.ExchangeRateEventDTO;
+import org.quarkus.repository.ExchangeOutboxReader;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+class ExchangeEventRelayTest {
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final ExchangeEventRelay relay = relay(Duration.ofMinutes(5));
+
+    @Test
+    void resumesAfterLastEventIdAcrossPagesWithoutDuplicates() {
+        outbox.append(3);
+        relay.poll().await().indefinitely();
+
+        Multi<ExchangeRateEventDTO> stream = relay.stream(1L);
+        // Published by the relay while the client has not started its replay yet
+        outbox.append(2);
+        relay.poll().await().indefinitely();
+
+        AssertSubscriber<ExchangeRateEventDTO> subscriber = stream.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        outbox.append(1);
+        relay.poll().await().indefinitely();
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), ids(subscriber));
+    }
+
+    @Test
+    void liveSubscribersOnlyReceiveNewEventsOnce() {
+        outbox.append(2);
+        relay.poll().await().indefinitely();
+
+        AssertSubscriber<ExchangeRateEventDTO> subscriber = relay.stream(null).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        outbox.append(3);
+        relay.poll().await().indefinitely();
+        relay.poll().await().indefinitely();
+        outbox.append(1);
+        relay.poll().await().indefinitely();
+
+        assertEquals(List.of(3L, 4L, 5L, 6L), ids(subscriber));
+    }
+
+    @Test
+    void publishesAnEarlierIdThatCommitsAfterALaterOne() {
+        relay.poll().await().indefinitely();
+        AssertSubscriber<ExchangeRateEventDTO> subscriber = relay.stream(null).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        long slow = outbox.begin();
+        outbox.append(3);
+        relay.poll().await().indefinitely();
+        outbox.commit(slow);
+        relay.poll().await().indefinitely();
+        relay.poll().await().indefinitely();
+
+        assertEquals(List.of(2L, 3L, 4L, 1L), ids(subscriber));
+    }
+
+    @Test
+    void givesUpOnIdsThatNeverCommitAfterTheGapTimeout() {
+        ExchangeEventRelay impatient = relay(Duration.ZERO);
+        impatient.poll().await().indefinitely();
+        AssertSubscriber<ExchangeRateEventDTO> subscriber = impatient.stream(null).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        long rolledBack = outbox.begin();
+        outbox.append(1);
+        impatient.poll().await().indefinitely();
+        impatient.poll().await().indefinitely();
+        outbox.commit(rolledBack);
+        impatient.poll().await().indefinitely();
+
+        assertEquals(List.of(2L), ids(subscriber));
+    }
+
+    private ExchangeEventRelay relay(Duration gapTimeout) {
+        return new ExchangeEventRelay(outbox, false, Duration.ofSeconds(1), 2, Duration.ofDays(7), Duration.ofHours(1),
+                gapTimeout);
+    }
+
+    private static List<Long> ids(AssertSubscriber<ExchangeRateEventDTO> subscriber) {
+        return subscriber.getItems().stream().map(ExchangeRateEventDTO::id).toList();
+    }
+
+    static class InMemoryOutbox extends ExchangeOutboxReader {
+
+        private final List<ExchangeRateEventDTO> events = new ArrayList<>();
+        private final Set<Long> uncommitted = new HashSet<>();
+
+        InMemoryOutbox() {
+            super(null, Duration.ZERO);
+        }
+
+        void append(int count) {
+            for (int i = 0; i < count; i++) {
+                events.add(new ExchangeRateEventDTO(events.size() + 1, "USD", "PEN", new BigDecimal("3.75"), LocalDateTime.now()));
+            }
+        }
+
+        // Inserts an event whose transaction has not committed yet
+        long begin() {
+            append(1);
+            uncommitted.add((long) events.size());
+            return events.size();
+        }
+
+        void commit(long id) {
+            uncommitted.remove(id);
+        }
+
+        @Override
+        public Uni<List<ExchangeRateEventDTO>> findAfter(long id, int limit) {
+            return Uni.createFrom().item(visible().filter(e -> e.id() > id).limit(limit).toList());
+        }
+
+        @Override
+        public Uni<List<ExchangeRateEventDTO>> findByIds(Collection<Long> ids) {
+            return Uni.createFrom().item(visible().filter(e -> ids.contains(e.id())).toList());
+        }
+
+        @Override
+        public Uni<Long> findLastId() {
+            return Uni.createFrom().item((long) events.size());
+        }
+
+        private Stream<ExchangeRateEventDTO> visible() {
+            return events.stream().filter(e -> !uncommitted.contains(e.id()));
+        }
+    }
+}
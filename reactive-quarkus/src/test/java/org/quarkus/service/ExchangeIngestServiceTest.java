@@ -0,0 +1,100 @@
+package org.quarkus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.quarkus.dto.ExchangeRateDTO;
+import org.quarkus.repository.ExchangeBulkWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.BadRequestException;
+
+class ExchangeIngestServiceTest {
+
+    private final RecordingBulkWriter writer = new RecordingBulkWriter();
+    private final MissingPairCache missingPairCache = new MissingPairCache(
+            ExchangeServiceTest.cache(MissingPairCache.EXCHANGE_RATES_MISSING_CACHE));
+    private final ExchangeIngestService ingestService = new ExchangeIngestService(writer, new ObjectMapper(),
+            ExchangeServiceTest.service(new ExchangeServiceTest.StubRateReader(), missingPairCache), 2);
+
+    @Test
+    void storesAndEvictsNormalizedCodes() throws Exception {
+        missingPairCache.add("USD", "PEN");
+
+        ingestService.ingestCsv(body("from,to,rate\nusd, pen ,3.75\n"));
+
+        assertEquals(List.of(new ExchangeRateDTO("USD", "PEN", new BigDecimal("3.75"))), writer.written);
+        assertFalse(missingPairCache.contains("USD", "PEN"));
+    }
+
+    @Test
+    void rejectsNonIsoCodesBeforeWriting() {
+        missingPairCache.add("USD", "PEN");
+
+        assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":3.75},"
+                        + "{\"fromCurrency\":\"USD\",\"toCurrency\":\"FOO\",\"exchangeRate\":1.5}]")));
+
+        assertTrue(writer.written.isEmpty());
+        assertTrue(missingPairCache.contains("USD", "PEN"));
+    }
+
+    @Test
+    void rejectsNonObjectArrayElements() {
+        BadRequestException e = assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":3.75}, 42,"
+                        + "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"exchangeRate\":0.92}]")));
+
+        assertEquals("Expected an exchange rate object at element 2", e.getMessage());
+        assertTrue(writer.written.isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":")));
+        assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":\"abc\"}]")));
+        assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":3.75}")));
+    }
+
+    @Test
+    void rejectsZeroAndNegativeRates() {
+        assertThrows(BadRequestException.class, () -> ingestService.ingestCsv(body("USD,PEN,0\n")));
+        assertThrows(BadRequestException.class, () -> ingestService.ingestJson(body(
+                "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"PEN\",\"exchangeRate\":-3.75}]")));
+        assertTrue(writer.written.isEmpty());
+    }
+
+    static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class RecordingBulkWriter extends ExchangeBulkWriter {
+
+        final List<ExchangeRateDTO> written = new ArrayList<>();
+
+        RecordingBulkWriter() {
+            super(null);
+        }
+
+        @Override
+        public Uni<Integer> upsertBatch(List<ExchangeRateDTO> batch) {
+            written.addAll(batch);
+            return Uni.createFrom().item(batch.size());
+        }
+    }
+}
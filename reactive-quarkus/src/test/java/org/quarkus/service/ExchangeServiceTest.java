@@ -0,0 +1,85 @@
+package org.quarkus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.quarkus.repository.ExchangeRateReader;
+import org.quarkus.repository.ExchangeRepo;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+
+class ExchangeServiceTest {
+
+    private final StubRateReader reader = new StubRateReader();
+    private final MissingPairCache missingPairCache = new MissingPairCache(cache(MissingPairCache.EXCHANGE_RATES_MISSING_CACHE));
+    private final ExchangeService exchangeService = service(reader, missingPairCache);
+
+    @Test
+    void unknownPairIsNotFoundAndRememberedInTheMissingPairCache() {
+        assertThrows(NotFoundException.class, () -> exchangeService.getExchangeRate("pen", "eur").await().indefinitely());
+        assertTrue(missingPairCache.contains("PEN", "EUR"));
+
+        assertThrows(NotFoundException.class, () -> exchangeService.getExchangeRate("PEN", "EUR").await().indefinitely());
+        assertEquals(1, reader.queries.get(), "second miss is answered by the negative cache");
+    }
+
+    @Test
+    void evictForgetsAMissingPair() {
+        assertThrows(NotFoundException.class, () -> exchangeService.getExchangeRate("PEN", "EUR").await().indefinitely());
+        reader.rates.put("PEN/EUR", new BigDecimal("0.2450"));
+
+        exchangeService.evict("PEN", "EUR").await().indefinitely();
+
+        assertFalse(missingPairCache.contains("PEN", "EUR"));
+        assertEquals(new BigDecimal("0.2450"), exchangeService.getExchangeRate("PEN", "EUR").await().indefinitely());
+        assertEquals(2, reader.queries.get());
+    }
+
+    @Test
+    void rejectsUnknownCurrencyCodesWithoutQuerying() {
+        assertThrows(BadRequestException.class, () -> exchangeService.getExchangeRate("PEN", "XYZ").await().indefinitely());
+        assertEquals(0, reader.queries.get());
+    }
+
+    static ExchangeService service(ExchangeRateReader reader, MissingPairCache missingPairCache) {
+        return new ExchangeService(new ExchangeRepo(), reader, missingPairCache, cache(ExchangeService.EXCHANGE_RATES_CACHE), "sql");
+    }
+
+    static Cache cache(String name) {
+        CaffeineCacheInfo info = new CaffeineCacheInfo();
+        info.name = name;
+        info.maximumSize = 100L;
+        info.expireAfterWrite = Duration.ofMinutes(1);
+        return new CaffeineCacheImpl(info, false);
+    }
+
+    static class StubRateReader extends ExchangeRateReader {
+
+        final Map<String, BigDecimal> rates = new HashMap<>();
+        final AtomicInteger queries = new AtomicInteger();
+
+        StubRateReader() {
+            super(null);
+        }
+
+        @Override
+        public Uni<BigDecimal> findRate(String from, String to) {
+            queries.incrementAndGet();
+            return Uni.createFrom().item(rates.get(from + "/" + to));
+        }
+    }
+}
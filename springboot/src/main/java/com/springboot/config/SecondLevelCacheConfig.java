@@ -0,0 +1,48 @@
+package com.springboot.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Builds the local Caffeine JCache manager backing Hibernate's second-level and query caches.
+ * Every region must be declared under {@code second-level-cache.regions}; Hibernate is configured
+ * to fail on startup instead of silently creating unbounded caches for unknown regions.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    // Tracks the last write to each table; evicting entries here would serve stale query results
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // Hibernate closes the manager when the session factory shuts down
+    @Bean(destroyMethod = "")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        // A manager per application context, so contexts started side by side in tests never share regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        properties.getRegions().forEach((name, region) -> cacheManager.createCache(name, region.toConfiguration()));
+        if (cacheManager.getCache(UPDATE_TIMESTAMPS_REGION) == null) {
+            CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+            timestamps.setStoreByValue(false);
+            timestamps.setStatisticsEnabled(true);
+            cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, timestamps);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,62 @@
+package com.springboot.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Sizes and lifetimes of the Hibernate second-level cache regions, keyed by region name
+ * ({@code second-level-cache.regions.item.max-entries=10000}).
+ */
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+
+        private long maxEntries = 10_000;
+
+        // Unset means entries stay until evicted by size or invalidated by a write
+        private Duration timeToLive;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        CaffeineConfiguration<Object, Object> toConfiguration() {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            if (timeToLive != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+            }
+            return configuration;
+        }
+    }
+}
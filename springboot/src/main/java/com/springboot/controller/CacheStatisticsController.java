@@ -0,0 +1,31 @@
+package com.springboot.controller;
+
+import com.springboot.dto.CacheStatistics;
+import com.springboot.service.CacheStatisticsService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheStatisticsController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping(value = "/cache/statistics", produces = "application/json; charset=UTF-8")
+    public CacheStatistics getStatistics() {
+        return cacheStatisticsService.getStatistics();
+    }
+
+    // Starts a fresh measurement window, e.g. before a load test
+    @DeleteMapping("/cache/statistics")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void resetStatistics() {
+        cacheStatisticsService.reset();
+    }
+}
@@ -1,24 +1,59 @@
 package com.springboot.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.dto.TitlePage;
 import com.springboot.service.ItemService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 public class ItemController {
 
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService, ObjectMapper objectMapper) {
         this.itemService = itemService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(value = "/titles", produces = "application/json; charset=UTF-8")
     public List<String> getTitles(Double rating) {
         return itemService.getTitlesWithAverageRatingLowerThan(rating);
     }
+
+    @GetMapping(value = "/titles/page", produces = "application/json; charset=UTF-8")
+    public TitlePage getTitlePage(Double rating,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "100") int size) {
+        return itemService.getTitlePageWithAverageRatingLowerThan(rating, cursor, size);
+    }
+
+    @GetMapping(value = "/titles/stream", produces = "application/json; charset=UTF-8")
+    public StreamingResponseBody streamTitles(Double rating) {
+        return out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartArray();
+                itemService.forEachTitleWithAverageRatingLowerThan(rating, title -> writeTitle(json, title));
+                json.writeEndArray();
+            }
+        };
+    }
+
+    private static void writeTitle(JsonGenerator json, String title) {
+        try {
+            json.writeString(title);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
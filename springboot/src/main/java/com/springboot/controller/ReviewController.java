@@ -0,0 +1,34 @@
+package com.springboot.controller;
+
+import com.springboot.dto.ReviewImportResult;
+import com.springboot.service.ReviewImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+@RestController
+public class ReviewController {
+
+    private final ReviewImportService reviewImportService;
+
+    public ReviewController(ReviewImportService reviewImportService) {
+        this.reviewImportService = reviewImportService;
+    }
+
+    // Reads the request stream directly so the dump is parsed row by row instead of bound up front
+    @PostMapping(value = "/reviews/import", consumes = "application/json", produces = "application/json; charset=UTF-8")
+    public ReviewImportResult importReviews(HttpServletRequest request) throws IOException {
+        return reviewImportService.importReviews(request.getInputStream());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String badRequest(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+}
@@ -1,15 +1,45 @@
 package com.springboot.dao;
 
+import com.springboot.dto.ItemTitle;
 import com.springboot.model.Item;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ItemRepository extends CrudRepository<Item, Long> {
 
-    @Query("SELECT i FROM Item i LEFT JOIN i.reviews r GROUP BY i.id " +
-            "HAVING COALESCE(AVG(r.rating), 0) < :rating")
+    String RATING_QUERY_REGION = "item-rating-query";
+
+    // Rating-threshold results are cached until Item rows change; every review write updates the
+    // item's rating aggregates, so adding or removing reviews invalidates them as well.
+    @Query("SELECT i FROM Item i WHERE i.averageRating < :rating")
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = RATING_QUERY_REGION)})
     List<Item> findItemsWithAverageRatingLowerThan(Double rating);
 
-}
\ No newline at end of file
+    @Query("SELECT i.title FROM Item i WHERE i.averageRating < :rating ORDER BY i.averageRating, i.id")
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = RATING_QUERY_REGION)})
+    List<String> findTitlesWithAverageRatingLowerThan(Double rating);
+
+    @Query("SELECT i.title FROM Item i WHERE i.averageRating < :rating ORDER BY i.averageRating, i.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<String> streamTitlesWithAverageRatingLowerThan(Double rating);
+
+    @Query("SELECT new com.springboot.dto.ItemTitle(i.id, i.title, i.averageRating) FROM Item i " +
+            "WHERE i.averageRating < :rating " +
+            "AND (i.averageRating > :lastAverage OR (i.averageRating = :lastAverage AND i.id > :lastId)) " +
+            "ORDER BY i.averageRating, i.id")
+    List<ItemTitle> findTitlesWithAverageRatingLowerThanAfter(Double rating, double lastAverage, long lastId,
+                                                              Pageable pageable);
+
+}
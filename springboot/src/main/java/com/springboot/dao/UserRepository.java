@@ -3,5 +3,10 @@ package com.springboot.dao;
 import com.springboot.model.User;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserRepository extends CrudRepository<User, Long> {
+
+    List<User> findByUsernameIn(Collection<String> usernames);
 }
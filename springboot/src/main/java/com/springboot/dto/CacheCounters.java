@@ -0,0 +1,9 @@
+package com.springboot.dto;
+
+public record CacheCounters(long hits, long misses, long puts, double hitRatio) {
+
+    public static CacheCounters of(long hits, long misses, long puts) {
+        long requests = hits + misses;
+        return new CacheCounters(hits, misses, puts, requests == 0 ? 0 : (double) hits / requests);
+    }
+}
@@ -0,0 +1,7 @@
+package com.springboot.dto;
+
+import java.util.Map;
+
+public record CacheStatistics(CacheCounters secondLevelCache, CacheCounters queryCache,
+                              Map<String, CacheCounters> regions) {
+}
@@ -0,0 +1,4 @@
+package com.springboot.dto;
+
+public record ItemTitle(Long id, String title, double averageRating) {
+}
@@ -0,0 +1,4 @@
+package com.springboot.dto;
+
+public record ReviewImportResult(long rows, long skipped, long chunks, long elapsedMillis, double rowsPerSecond) {
+}
@@ -0,0 +1,4 @@
+package com.springboot.dto;
+
+public record ReviewImportRow(Long itemId, String username, Double rating, String comment) {
+}
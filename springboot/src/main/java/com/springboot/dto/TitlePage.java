@@ -0,0 +1,6 @@
+package com.springboot.dto;
+
+import java.util.List;
+
+public record TitlePage(List<String> titles, String nextCursor) {
+}
@@ -1,20 +1,33 @@
 package com.springboot.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotEmpty;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "item")
+@Table(indexes = @Index(name = "ix_item_average_rating", columnList = "averageRating, id"))
 public class Item {
 
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+  @SequenceGenerator(name = "item_seq", sequenceName = "item_seq", allocationSize = 50)
   private Long id;
 
   @Column(length = 100)
@@ -27,6 +40,21 @@ public class Item {
   @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, orphanRemoval = true)
   Set<Review> reviews = new HashSet<>();
 
+  // Maintained by addReview/removeReview so rating queries never aggregate Review rows.
+  // Reviews without a rating are not counted, matching AVG over the rating column.
+  @Column(nullable = false)
+  private long reviewCount;
+
+  @Column(nullable = false)
+  private double ratingSum;
+
+  @Column(nullable = false)
+  private double averageRating;
+
+  // Concurrent review writes to the same item must not lose counter updates
+  @Version
+  private Long version;
+
   public Item() {
   }
 
@@ -51,9 +79,46 @@ public class Item {
     return reviews;
   }
 
+  public long getReviewCount() {
+    return reviewCount;
+  }
+
+  public double getRatingSum() {
+    return ratingSum;
+  }
+
+  public double getAverageRating() {
+    return averageRating;
+  }
+
   public void addReview(Review review) {
-    reviews.add(review);
+    if (reviews.add(review)) {
+      attachReview(review);
+    }
+  }
+
+  // Links the review and updates the aggregates without touching the reviews collection,
+  // so bulk writers can persist reviews without loading every existing one.
+  public Review attachReview(Review review) {
     review.setItem(this);
+    applyRating(review.getRating(), 1);
+    return review;
+  }
+
+  public void removeReview(Review review) {
+    if (reviews.remove(review)) {
+      review.setItem(null);
+      applyRating(review.getRating(), -1);
+    }
+  }
+
+  private void applyRating(Double rating, int direction) {
+    if (rating == null) {
+      return;
+    }
+    reviewCount += direction;
+    ratingSum += direction * rating;
+    averageRating = reviewCount == 0 ? 0 : ratingSum / reviewCount;
   }
 
   @Override
@@ -62,6 +127,8 @@ public class Item {
         "id=" + id +
         ", title='" + title + '\'' +
         ", description='" + description + '\'' +
+        ", reviewCount=" + reviewCount +
+        ", averageRating=" + averageRating +
         ", reviews=" + reviews +
         '}';
   }
@@ -4,14 +4,17 @@ import org.hibernate.validator.constraints.Length;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.ManyToOne;
 
 @Entity
 public class Review {
 
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+  @SequenceGenerator(name = "review_seq", sequenceName = "review_seq", allocationSize = 50)
   private Long id;
 
   private Double rating;
@@ -0,0 +1,47 @@
+package com.springboot.service;
+
+import com.springboot.dto.CacheCounters;
+import com.springboot.dto.CacheStatistics;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the Hibernate statistics collected since startup (or the last reset). Counters are only
+ * gathered when {@code hibernate.generate_statistics} is enabled; otherwise they all read zero.
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public CacheStatistics getStatistics() {
+        Map<String, CacheCounters> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).forEach(name -> {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.put(name, CacheCounters.of(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        });
+        return new CacheStatistics(
+                CacheCounters.of(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+                        statistics.getSecondLevelCachePutCount()),
+                CacheCounters.of(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()),
+                regions);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+}
@@ -1,15 +1,23 @@
 package com.springboot.service;
 
 import com.springboot.dao.ItemRepository;
-import com.springboot.model.Item;
+import com.springboot.dto.ItemTitle;
+import com.springboot.dto.TitlePage;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class ItemService {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final ItemRepository itemRepository;
 
     public ItemService(ItemRepository itemRepository) {
@@ -17,10 +25,27 @@ public class ItemService {
     }
 
     public List<String> getTitlesWithAverageRatingLowerThan(Double rating) {
-        List<Item> items = itemRepository.findItemsWithAverageRatingLowerThan(rating);
-        return items.stream()
-                .map(Item::getTitle)
-                .collect(Collectors.toList());
+        return itemRepository.findTitlesWithAverageRatingLowerThan(rating);
+    }
+
+    // The result set is scrolled inside the transaction and titles are handed over one by one,
+    // so memory stays flat whatever the number of matching items.
+    public void forEachTitleWithAverageRatingLowerThan(Double rating, Consumer<String> action) {
+        try (Stream<String> titles = itemRepository.streamTitlesWithAverageRatingLowerThan(rating)) {
+            titles.forEach(action);
+        }
+    }
+
+    public TitlePage getTitlePageWithAverageRatingLowerThan(Double rating, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TitleCursor after = TitleCursor.decode(cursor);
+        // One extra row tells whether another page exists without a count query
+        List<ItemTitle> rows = itemRepository.findTitlesWithAverageRatingLowerThanAfter(
+                rating, after.averageRating(), after.id(), PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<ItemTitle> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? TitleCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new TitlePage(page.stream().map(ItemTitle::title).collect(Collectors.toList()), nextCursor);
     }
 
-}
\ No newline at end of file
+}
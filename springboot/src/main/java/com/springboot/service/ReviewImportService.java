@@ -0,0 +1,168 @@
+package com.springboot.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.dao.ItemRepository;
+import com.springboot.dao.UserRepository;
+import com.springboot.dto.ReviewImportResult;
+import com.springboot.dto.ReviewImportRow;
+import com.springboot.model.Item;
+import com.springboot.model.Review;
+import com.springboot.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Imports reviews from a JSON array in chunks. Each chunk is committed in its own transaction and
+ * ends with a flush (written as JDBC batches) and a clear, so the persistence context never holds
+ * more than one chunk. Chunks already committed stay in place if a later one fails.
+ */
+@Service
+public class ReviewImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewImportService.class);
+
+    private static final int MAX_USERNAME_LENGTH = 16;
+    private static final int MAX_COMMENT_LENGTH = 200;
+    private static final double MIN_RATING = 0;
+    private static final double MAX_RATING = 10;
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ReviewImportService(ItemRepository itemRepository, UserRepository userRepository, EntityManager entityManager,
+                               TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                               @Value("${reviews.import.chunk-size:1000}") int chunkSize) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ReviewImportResult importReviews(InputStream body) throws IOException {
+        Import reviewImport = new Import();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of reviews");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                reviewImport.add(objectMapper.readValue(parser, ReviewImportRow.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed review JSON: " + e.getOriginalMessage(), e);
+        }
+        return reviewImport.finish();
+    }
+
+    private class Import {
+        private final long start = System.nanoTime();
+        private final List<ReviewImportRow> chunk = new ArrayList<>(chunkSize);
+        // Usernames resolved in earlier chunks, so their users are referenced without a query
+        private final Map<String, Long> userIds = new HashMap<>();
+        private long rows;
+        private long skipped;
+        private long chunks;
+
+        void add(ReviewImportRow row) {
+            if (!isValid(row)) {
+                skipped++;
+                return;
+            }
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        ReviewImportResult finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - start;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+            log.info("Imported {} reviews in {} chunks, skipped {} ({} rows/s)", rows, chunks, skipped, Math.round(rowsPerSecond));
+            return new ReviewImportResult(rows, skipped, chunks, elapsedNanos / 1_000_000, rowsPerSecond);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Long imported = transactionTemplate.execute(status -> {
+                long written = writeChunk();
+                entityManager.flush();
+                entityManager.clear();
+                return written;
+            });
+            rows += imported;
+            skipped += chunk.size() - imported;
+            chunks++;
+            chunk.clear();
+        }
+
+        private long writeChunk() {
+            Set<Long> itemIds = chunk.stream().map(ReviewImportRow::itemId).collect(Collectors.toSet());
+            Map<Long, Item> items = StreamSupport.stream(itemRepository.findAllById(itemIds).spliterator(), false)
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+            // Rows for unknown items are skipped before users are resolved, so they never create a user
+            List<ReviewImportRow> writable = chunk.stream().filter(row -> items.containsKey(row.itemId())).toList();
+            resolveUsers(writable);
+            for (ReviewImportRow row : writable) {
+                User author = entityManager.getReference(User.class, userIds.get(row.username()));
+                entityManager.persist(items.get(row.itemId()).attachReview(new Review(row.rating(), row.comment(), author)));
+            }
+            return writable.size();
+        }
+
+        private void resolveUsers(List<ReviewImportRow> rows) {
+            Set<String> unknown = new HashSet<>();
+            for (ReviewImportRow row : rows) {
+                if (!userIds.containsKey(row.username())) {
+                    unknown.add(row.username());
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+            for (User user : userRepository.findByUsernameIn(unknown)) {
+                userIds.put(user.getUsername(), user.getId());
+                unknown.remove(user.getUsername());
+            }
+            for (String username : unknown) {
+                User user = new User(username);
+                entityManager.persist(user);
+                userIds.put(username, user.getId());
+            }
+        }
+
+        private boolean isValid(ReviewImportRow row) {
+            return row.itemId() != null
+                    && row.username() != null && !row.username().isEmpty() && row.username().length() <= MAX_USERNAME_LENGTH
+                    && (row.comment() == null || row.comment().length() <= MAX_COMMENT_LENGTH)
+                    // NaN fails both comparisons, so it is skipped with out-of-range ratings
+                    && (row.rating() == null || (row.rating() >= MIN_RATING && row.rating() <= MAX_RATING));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.springboot.service;
+
+import com.springboot.dto.ItemTitle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (averageRating, id) order of the title queries, encoded as an opaque token.
+ */
+record TitleCursor(double averageRating, long id) {
+
+    static final TitleCursor START = new TitleCursor(-Double.MAX_VALUE, Long.MIN_VALUE);
+
+    static TitleCursor after(ItemTitle title) {
+        return new TitleCursor(title.averageRating(), title.id());
+    }
+
+    static TitleCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            return new TitleCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((averageRating + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.springboot.benchmark;
+
+import com.springboot.dao.ItemRepository;
+import com.springboot.dao.UserRepository;
+import com.springboot.dto.ReviewImportResult;
+import com.springboot.model.Item;
+import com.springboot.service.ReviewImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports a generated dump into H2; the import service logs rows per second. Run with {@code mvn test -Pbenchmark};
+ * size it with {@code -Dbenchmark.reviews}, {@code -Dbenchmark.items} and {@code -Dbenchmark.users}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class ReviewImportBenchmarkTest {
+
+    private static final int REVIEWS = Integer.getInteger("benchmark.reviews", 200_000);
+    private static final int ITEMS = Integer.getInteger("benchmark.items", 2_000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 5_000);
+
+    @Autowired
+    private ReviewImportService reviewImportService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void importsGeneratedDump() throws Exception {
+        List<Item> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Item("item " + i, "description"));
+        }
+        itemRepository.saveAll(items);
+        byte[] dump = generateDump(items);
+
+        // ReviewImportService logs rows, chunks and rows per second at INFO
+        ReviewImportResult result = reviewImportService.importReviews(new ByteArrayInputStream(dump));
+
+        assertThat(result.rows()).isEqualTo(REVIEWS);
+    }
+
+    private byte[] generateDump(List<Item> items) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(REVIEWS * 80).append('[');
+        for (int i = 0; i < REVIEWS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"itemId\":").append(items.get(random.nextInt(items.size())).getId())
+                    .append(",\"username\":\"user").append(random.nextInt(USERS))
+                    .append("\",\"rating\":").append(1 + random.nextInt(10))
+                    .append(",\"comment\":\"review ").append(i).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -1,21 +1,31 @@
 package com.springboot.controller;
 
+import com.springboot.dto.TitlePage;
 import com.springboot.service.ItemService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.function.Consumer;
 
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest
+@WebMvcTest(ItemController.class)
 public class ItemControllerTest {
 
     @Autowired
@@ -33,4 +43,32 @@ public class ItemControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString(title)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void returnsTitlePageWithNextCursor() throws Exception {
+        given(itemService.getTitlePageWithAverageRatingLowerThan(10.0, "abc", 2))
+                .willReturn(new TitlePage(newArrayList("title1", "title2"), "def"));
+        this.mockMvc.perform(get("/titles/page?rating=10.0&cursor=abc&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titles[1]").value("title2"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamsTitlesAsJsonArray() throws Exception {
+        willAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(1);
+            action.accept("title1");
+            action.accept("title \"2\"");
+            return null;
+        }).given(itemService).forEachTitleWithAverageRatingLowerThan(eq(10.0), any(Consumer.class));
+
+        MvcResult result = this.mockMvc.perform(get("/titles/stream?rating=10.0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[\"title1\", \"title \\\"2\\\"\"]", true));
+    }
+}
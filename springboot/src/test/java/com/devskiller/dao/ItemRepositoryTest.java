@@ -1,13 +1,21 @@
 package com.springboot.dao;
 
+import com.springboot.dto.ItemTitle;
 import com.springboot.model.Item;
 import com.springboot.model.Review;
 import com.springboot.model.User;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,6 +26,8 @@ public class ItemRepositoryTest {
     private ItemRepository itemRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @Test
     public void shouldReturnItemsWithAverageRating() {
@@ -25,6 +35,21 @@ public class ItemRepositoryTest {
         assertThat(itemRepository.findItemsWithAverageRatingLowerThan(1.0)).hasSize(1);
     }
 
+    @Test
+    public void shouldReturnTitleProjectionsPageByPage() {
+        assertThat(itemRepository.findTitlesWithAverageRatingLowerThan(2.0)).containsExactly("title 0", "title 1");
+
+        List<ItemTitle> first = itemRepository.findTitlesWithAverageRatingLowerThanAfter(
+                10.0, -Double.MAX_VALUE, Long.MIN_VALUE, PageRequest.of(0, 4));
+        ItemTitle last = first.get(first.size() - 1);
+        List<ItemTitle> second = itemRepository.findTitlesWithAverageRatingLowerThanAfter(
+                10.0, last.averageRating(), last.id(), PageRequest.of(0, 10));
+
+        assertThat(first).extracting(ItemTitle::title).containsExactly("title 0", "title 1", "title 2", "title 3");
+        assertThat(second).extracting(ItemTitle::title)
+                .containsExactly("title 4", "title 5", "title 6", "title 7", "title 8", "title 9");
+    }
+
     @BeforeEach
     public void prepareData() {
         User user = new User(RandomString.make(5));
@@ -36,4 +61,21 @@ public class ItemRepositoryTest {
             itemRepository.save(item);
         }
     }
+
+    @Test
+    public void shouldStreamTitlesInRatingOrder() {
+        List<String> titles = transactionTemplate.execute(status -> {
+            try (Stream<String> stream = itemRepository.streamTitlesWithAverageRatingLowerThan(3.0)) {
+                return stream.collect(Collectors.toList());
+            }
+        });
+
+        assertThat(titles).containsExactly("title 0", "title 1", "title 2");
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.springboot.dao;
+
+import com.springboot.dto.CacheStatistics;
+import com.springboot.model.Item;
+import com.springboot.model.Review;
+import com.springboot.model.User;
+import com.springboot.service.CacheStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    private User user;
+    private Item cheap;
+    private Item good;
+
+    @BeforeEach
+    public void prepareData() {
+        user = userRepository.save(new User("cache-test"));
+        cheap = new Item("cheap", "description");
+        cheap.addReview(new Review(1.0, "meh", user));
+        good = new Item("good", "description");
+        good.addReview(new Review(5.0, "great", user));
+        cheap = itemRepository.save(cheap);
+        good = itemRepository.save(good);
+        cacheStatisticsService.reset();
+    }
+
+    @Test
+    public void shouldServeItemsAndUsersFromSecondLevelCache() {
+        itemRepository.findById(good.getId());
+        itemRepository.findById(good.getId());
+        userRepository.findById(user.getId());
+
+        CacheStatistics statistics = cacheStatisticsService.getStatistics();
+        assertThat(statistics.regions().get("item").hits()).isEqualTo(2);
+        assertThat(statistics.regions().get("user").hits()).isEqualTo(1);
+        assertThat(statistics.secondLevelCache().misses()).isZero();
+        assertThat(statistics.secondLevelCache().hitRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void shouldInvalidateRatingQueryWhenReviewsChange() {
+        assertThat(itemRepository.findTitlesWithAverageRatingLowerThan(3.0)).containsExactly("cheap");
+        assertThat(itemRepository.findTitlesWithAverageRatingLowerThan(3.0)).containsExactly("cheap");
+        assertThat(cacheStatisticsService.getStatistics().queryCache().hits()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Item item = itemRepository.findById(good.getId()).orElseThrow();
+            item.addReview(new Review(0.0, "broke", user));
+            item.addReview(new Review(0.0, "broke again", user));
+        });
+
+        assertThat(itemRepository.findTitlesWithAverageRatingLowerThan(3.0)).containsExactly("cheap", "good");
+        assertThat(cacheStatisticsService.getStatistics().queryCache())
+                .satisfies(queryCache -> {
+                    assertThat(queryCache.hits()).isEqualTo(1);
+                    assertThat(queryCache.misses()).isEqualTo(2);
+                });
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
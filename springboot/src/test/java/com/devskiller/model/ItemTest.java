@@ -0,0 +1,36 @@
+package com.springboot.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ItemTest {
+
+    private final User user = new User("user");
+
+    @Test
+    public void maintainsRatingAggregatesWhenReviewsAreAddedAndRemoved() {
+        Item item = new Item("title", "description");
+        Review low = new Review(2.0, "low", user);
+        Review high = new Review(5.0, "high", user);
+
+        item.addReview(low);
+        item.addReview(high);
+        item.addReview(new Review(null, "no rating", user));
+
+        assertThat(item.getReviewCount()).isEqualTo(2);
+        assertThat(item.getRatingSum()).isEqualTo(7.0);
+        assertThat(item.getAverageRating()).isEqualTo(3.5);
+
+        item.removeReview(high);
+
+        assertThat(item.getReviewCount()).isEqualTo(1);
+        assertThat(item.getAverageRating()).isEqualTo(2.0);
+        assertThat(high.getItem()).isNull();
+
+        item.removeReview(low);
+
+        assertThat(item.getReviewCount()).isZero();
+        assertThat(item.getAverageRating()).isZero();
+    }
+}
@@ -1,12 +1,15 @@
 package com.springboot.service;
 
 import com.springboot.dao.ItemRepository;
-import com.springboot.model.Item;
+import com.springboot.dto.ItemTitle;
+import com.springboot.dto.TitlePage;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -19,12 +22,32 @@ public class ItemServiceTest {
     @Test
     public void returnsTitlesBasedOnItemsFromPersistenceLayer() {
         Double rating = 10.0;
-        given(itemRepository.findItemsWithAverageRatingLowerThan(rating))
-                .willReturn(newArrayList(new Item("title1", "desc1"), new Item("title2", "desc2")));
+        given(itemRepository.findTitlesWithAverageRatingLowerThan(rating))
+                .willReturn(newArrayList("title1", "title2"));
 
         List<String> titles = itemService.getTitlesWithAverageRatingLowerThan(rating);
 
         assertThat(titles).containsExactly("title1", "title2");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void returnsCursorToNextPageWhenMoreTitlesExist() {
+        Double rating = 10.0;
+        given(itemRepository.findTitlesWithAverageRatingLowerThanAfter(
+                rating, TitleCursor.START.averageRating(), TitleCursor.START.id(), PageRequest.of(0, 3)))
+                .willReturn(newArrayList(new ItemTitle(1L, "title1", 1.0), new ItemTitle(2L, "title2", 2.5),
+                        new ItemTitle(3L, "title3", 3.0)));
+
+        TitlePage page = itemService.getTitlePageWithAverageRatingLowerThan(rating, null, 2);
+
+        assertThat(page.titles()).containsExactly("title1", "title2");
+        assertThat(TitleCursor.decode(page.nextCursor())).isEqualTo(new TitleCursor(2.5, 2L));
+    }
+
+    @Test
+    public void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> itemService.getTitlePageWithAverageRatingLowerThan(10.0, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+}
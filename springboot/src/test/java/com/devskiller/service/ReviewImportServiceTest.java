@@ -0,0 +1,124 @@
+package com.springboot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.dao.ItemRepository;
+import com.springboot.dao.UserRepository;
+import com.springboot.dto.ReviewImportResult;
+import com.springboot.model.Item;
+import com.springboot.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class ReviewImportServiceTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ReviewImportService reviewImportService;
+
+    // Small chunks exercise users and items resolved across several transactions
+    @BeforeEach
+    public void createService() {
+        reviewImportService = new ReviewImportService(itemRepository, userRepository, entityManager,
+                transactionTemplate, objectMapper, 2);
+    }
+
+    @Test
+    public void importsReviewsInChunksAndUpdatesItemAggregates() throws Exception {
+        userRepository.save(new User("existing"));
+        Item first = itemRepository.save(new Item("first", "description"));
+        Item second = itemRepository.save(new Item("second", "description"));
+        String dump = "[" +
+                "{\"itemId\":" + first.getId() + ",\"username\":\"existing\",\"rating\":2.0,\"comment\":\"ok\"}," +
+                "{\"itemId\":" + first.getId() + ",\"username\":\"newcomer\",\"rating\":4.0}," +
+                "{\"itemId\":" + second.getId() + ",\"username\":\"newcomer\",\"rating\":5.0}," +
+                "{\"itemId\":-1,\"username\":\"existing\",\"rating\":1.0}," +
+                "{\"itemId\":" + second.getId() + ",\"username\":\"a-username-longer-than-16\",\"rating\":1.0}" +
+                "]";
+
+        ReviewImportResult result = reviewImportService.importReviews(
+                new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(itemRepository.findById(first.getId())).get()
+                .satisfies(item -> {
+                    assertThat(item.getReviewCount()).isEqualTo(2);
+                    assertThat(item.getAverageRating()).isEqualTo(3.0);
+                });
+        assertThat(itemRepository.findById(second.getId()).get().getAverageRating()).isEqualTo(5.0);
+        assertThat(userRepository.findByUsernameIn(List.of("newcomer"))).hasSize(1);
+    }
+
+    @Test
+    public void skipsRatingsOutsideTheScale() throws Exception {
+        Item item = itemRepository.save(new Item("rated", "description"));
+        String dump = "[" +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":10.0}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":0.0}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":10.5}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":-1.0}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":\"NaN\"}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"rater\",\"rating\":\"Infinity\"}" +
+                "]";
+
+        ReviewImportResult result = reviewImportService.importReviews(
+                new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(4);
+        assertThat(itemRepository.findById(item.getId()).get().getAverageRating()).isEqualTo(5.0);
+    }
+
+    @Test
+    public void doesNotCreateUsersForRowsOfUnknownItems() throws Exception {
+        Item item = itemRepository.save(new Item("known", "description"));
+        String dump = "[" +
+                "{\"itemId\":-1,\"username\":\"orphan\",\"rating\":3.0}," +
+                "{\"itemId\":" + item.getId() + ",\"username\":\"reviewer\",\"rating\":3.0}" +
+                "]";
+
+        ReviewImportResult result = reviewImportService.importReviews(
+                new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rows()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(userRepository.findByUsernameIn(List.of("orphan", "reviewer")))
+                .extracting(User::getUsername).containsExactly("reviewer");
+    }
+
+    @Test
+    public void rejectsInputThatIsNotAnArray() {
+        assertThatThrownBy(() -> reviewImportService.importReviews(
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
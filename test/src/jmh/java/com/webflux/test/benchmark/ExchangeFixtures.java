@@ -0,0 +1,121 @@
+package com.webflux.test.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webflux.test.config.ExchangeBatchProperties;
+import com.webflux.test.config.ExchangeCacheProperties;
+import com.webflux.test.config.ExchangePivotProperties;
+import com.webflux.test.config.ExternalAPIProperties;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+import com.webflux.test.repository.ExchangeQueries;
+import com.webflux.test.service.ExchangeMetrics;
+import com.webflux.test.service.ExchangeRateFeed;
+import com.webflux.test.service.ExchangeService;
+import com.webflux.test.service.ExternalAPI;
+import com.webflux.test.service.RateGraph;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+final class ExchangeFixtures {
+
+    static final String EXTERNAL_API_JSON = """
+            {"result":"success","documentation":"https://www.exchangerate-api.com/docs","terms_of_use":"https://www.exchangerate-api.com/terms",\
+            "time_last_update_unix":"1760659201","time_last_update_utc":"Fri, 17 Oct 2025 00:00:01 +0000",\
+            "time_next_update_unix":"1760745601","time_next_update_utc":"Sat, 18 Oct 2025 00:00:01 +0000",\
+            "base_code":"USD","target_code":"PEN","conversion_rate":3.4712}""";
+
+    private ExchangeFixtures() {
+    }
+
+    static ExchangeService service(Map<CurrencyPair, Exchange> table, Duration cacheTtl) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExchangeMetrics metrics = new ExchangeMetrics(registry);
+        AsyncCache<CurrencyPair, Exchange> cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(10_000)
+                .buildAsync();
+        ExternalAPIProperties apiProperties = new ExternalAPIProperties("http://localhost/", Duration.ofDays(1),
+                Duration.ofSeconds(1), false, false,
+                new ExternalAPIProperties.Pool(1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1)));
+        return new ExchangeService(new InMemoryExchangeQueries(table), externalAPI(metrics), cache, apiProperties,
+                new ExchangeCacheProperties(cacheTtl, 10_000), new RateGraph(new ExchangePivotProperties(true, "USD")), new ExchangeBatchProperties(8),
+                new ExchangeRateFeed(), metrics);
+    }
+
+    static Map<CurrencyPair, Exchange> table(String... currencies) {
+        Map<CurrencyPair, Exchange> table = new ConcurrentHashMap<>();
+        BigDecimal rate = new BigDecimal("1.5");
+        for (String currency : currencies) {
+            table.put(new CurrencyPair("USD", currency), exchange("USD", currency, rate));
+            rate = rate.add(new BigDecimal("0.25"));
+        }
+        return table;
+    }
+
+    static Exchange exchange(String fromCurrency, String toCurrency, BigDecimal rate) {
+        return Exchange.builder()
+                .fromCurrency(fromCurrency)
+                .toCurrency(toCurrency)
+                .exchangeRate(rate)
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private static ExternalAPI externalAPI(ExchangeMetrics metrics) {
+        return new ExternalAPI(WebClient.create(), TimeLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(), metrics) {
+            @Override
+            public Mono<Exchange> getExchangeRate(String fromCurrency, String toCurrency) {
+                return Mono.fromSupplier(() -> exchange(fromCurrency, toCurrency, new BigDecimal("3.4712")));
+            }
+        };
+    }
+
+    /** In-memory stand-in for the four queries the lookup path issues. */
+    private static final class InMemoryExchangeQueries implements ExchangeQueries {
+
+        private final Map<CurrencyPair, Exchange> table;
+
+        InMemoryExchangeQueries(Map<CurrencyPair, Exchange> table) {
+            this.table = table;
+        }
+
+        @Override
+        public Mono<Exchange> findByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency) {
+            return Mono.justOrEmpty(table.get(new CurrencyPair(fromCurrency, toCurrency)));
+        }
+
+        @Override
+        public Flux<Exchange> findByFromCurrencyInAndToCurrencyIn(Collection<String> fromCurrencies, Collection<String> toCurrencies) {
+            return Flux.fromIterable(table.values())
+                    .filter(exchange -> fromCurrencies.contains(exchange.getFromCurrency())
+                            && toCurrencies.contains(exchange.getToCurrency()));
+        }
+
+        @Override
+        public Flux<CurrencyPair> findDistinctPairs() {
+            return Flux.fromIterable(table.keySet());
+        }
+
+        @Override
+        public Mono<Exchange> upsert(String fromCurrency, String toCurrency, BigDecimal exchangeRate) {
+            return Mono.fromSupplier(() -> exchange(fromCurrency, toCurrency, exchangeRate));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.webflux.test.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.webflux.test.dto.ExternalAPIDTO;
+import com.webflux.test.mapper.ExchangeMapper;
+import com.webflux.test.model.Exchange;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeMappingBenchmark {
+
+    private byte[] json;
+    private ObjectReader reader;
+    private ExternalAPIDTO dto;
+
+    @Setup
+    public void setUp() throws Exception {
+        json = ExchangeFixtures.EXTERNAL_API_JSON.getBytes(StandardCharsets.UTF_8);
+        reader = new ObjectMapper().readerFor(ExternalAPIDTO.class);
+        dto = reader.readValue(json);
+    }
+
+    @Benchmark
+    public ExternalAPIDTO deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public Exchange toModel() {
+        return ExchangeMapper.toModel(dto);
+    }
+
+    @Benchmark
+    public Exchange deserializeAndMap() throws Exception {
+        return ExchangeMapper.toModel(reader.readValue(json));
+    }
+}
@@ -0,0 +1,90 @@
+package com.webflux.test.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+import com.webflux.test.service.ExchangeService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CacheHit {
+        ExchangeService service;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            service = ExchangeFixtures.service(ExchangeFixtures.table("PEN", "EUR"), Duration.ofHours(1));
+            service.getExchange("PEN", "EUR").block();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DatabaseHit {
+        ExchangeService service;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // A zero TTL disables the rate cache, so every call reads the stubbed table.
+            service = ExchangeFixtures.service(ExchangeFixtures.table("PEN", "EUR"), Duration.ZERO);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UpstreamMiss {
+        ExchangeService service;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<CurrencyPair, Exchange> empty = ExchangeFixtures.table();
+            service = ExchangeFixtures.service(empty, Duration.ZERO);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HotPair {
+        ExchangeService service;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // Short TTL so concurrent threads keep colliding on expired entries and share loads.
+            service = ExchangeFixtures.service(ExchangeFixtures.table("PEN"), Duration.ofNanos(50_000));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal cacheHit(CacheHit state) {
+        return state.service.getExchangeRate("PEN", "EUR").block();
+    }
+
+    @Benchmark
+    public BigDecimal databaseHit(DatabaseHit state) {
+        return state.service.getExchangeRate("PEN", "EUR").block();
+    }
+
+    @Benchmark
+    public BigDecimal upstreamMiss(UpstreamMiss state) {
+        return state.service.getExchangeRate("PEN", "EUR").block();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public BigDecimal hotPairContended(HotPair state) {
+        return state.service.getExchangeRate("PEN", "USD").block();
+    }
+}
@@ -0,0 +1,29 @@
+package com.webflux.test.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties({ ExchangeCacheProperties.class, ExternalAPIProperties.class, ExchangePivotProperties.class,
+        ExchangeBatchProperties.class })
+public class CacheConfig {
+
+    @Bean
+    public AsyncCache<CurrencyPair, Exchange> exchangeRateCache(ExchangeCacheProperties properties, MeterRegistry meterRegistry) {
+        AsyncCache<CurrencyPair, Exchange> cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumSize(properties.maxSize())
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "exchangeRates");
+    }
+}
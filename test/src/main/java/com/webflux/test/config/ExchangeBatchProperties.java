@@ -0,0 +1,9 @@
+package com.webflux.test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "exchange.batch")
+public record ExchangeBatchProperties(
+    @DefaultValue("8") int concurrency
+) {}
@@ -0,0 +1,12 @@
+package com.webflux.test.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "exchange.cache")
+public record ExchangeCacheProperties(
+    @DefaultValue("10m") Duration ttl,
+    @DefaultValue("10000") long maxSize
+) {}
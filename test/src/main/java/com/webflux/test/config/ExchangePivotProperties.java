@@ -0,0 +1,10 @@
+package com.webflux.test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "exchange.pivot")
+public record ExchangePivotProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("USD") String currency
+) {}
@@ -0,0 +1,14 @@
+package com.webflux.test.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "exchange.refresh")
+public record ExchangeRefreshProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("15m") Duration interval,
+    @DefaultValue("4") int concurrency,
+    @DefaultValue("50") int batchSize
+) {}
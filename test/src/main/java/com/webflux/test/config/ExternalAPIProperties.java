@@ -0,0 +1,26 @@
+package com.webflux.test.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "exchange.upstream")
+public record ExternalAPIProperties(
+    @DefaultValue("https://v6.exchangerate-api.com/v6/1227cf5d13731ad6c251bc00/pair/") String baseUrl,
+    @DefaultValue("1h") Duration maxAge,
+    @DefaultValue("2s") Duration connectTimeout,
+    @DefaultValue("true") boolean compress,
+    @DefaultValue("false") boolean http2,
+    @DefaultValue Pool pool
+) {
+
+    public record Pool(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("200") int pendingAcquireMaxCount,
+        @DefaultValue("1s") Duration pendingAcquireTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration maxLifeTime,
+        @DefaultValue("30s") Duration evictInBackground
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.webflux.test.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ExchangeRefreshProperties.class)
+@ConditionalOnProperty(prefix = "exchange.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,22 @@
+package com.webflux.test.config;
+
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Decides which upstream errors count against the exchangeApi circuit breaker. A 4xx answer
+ * (an unknown or malformed pair) says nothing about the provider's health, so only 429 is
+ * recorded; 5xx, timeouts and connection errors are.
+ */
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable ex) {
+        if (ex instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return true;
+    }
+}
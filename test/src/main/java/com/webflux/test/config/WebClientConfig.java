@@ -0,0 +1,46 @@
+package com.webflux.test.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider exchangeApiConnectionProvider(ExternalAPIProperties properties) {
+        ExternalAPIProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder("exchangeApi")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient exchangeApiWebClient(WebClient.Builder webClientBuilder, ConnectionProvider exchangeApiConnectionProvider,
+            ExternalAPIProperties properties) {
+        HttpClient httpClient = HttpClient.create(exchangeApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .keepAlive(true)
+                .compress(properties.compress())
+                .metrics(true, uri -> "/pair/{from}/{to}");
+        if (properties.http2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return webClientBuilder
+                .baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,14 +1,32 @@
 package com.webflux.test.controller;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.webflux.test.dto.ConversionResponseDTO;
+import com.webflux.test.dto.ExchangeBatchRequestDTO;
+import com.webflux.test.mapper.ExchangeMapper;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
 import com.webflux.test.service.ExchangeService;
 
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -16,6 +34,9 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class ExchangeController {
 
+    private static final String STALE_HEADER = "X-Rate-Stale";
+    private static final int MAX_WATCHED_PAIRS = 100;
+
     private final ExchangeService exchangeService;
 
     public ExchangeController(ExchangeService exchangeService) {
@@ -23,10 +44,47 @@ public class ExchangeController {
     }
 
     @GetMapping("/from/{fromCurrency}/to/{toCurrency}")
-    public Mono<ResponseEntity<Float>> getExchangeRate(@PathVariable String fromCurrency, @PathVariable String toCurrency) {
-        log.info("From: {}, To: {}", fromCurrency, toCurrency);
-        return exchangeService.getExchangeRate(fromCurrency, toCurrency)
-                .map(rate -> ResponseEntity.ok(rate))
+    public Mono<ResponseEntity<BigDecimal>> getExchangeRate(@PathVariable String fromCurrency, @PathVariable String toCurrency) {
+        log.debug("From: {}, To: {}", fromCurrency, toCurrency);
+        return exchangeService.getExchange(fromCurrency, toCurrency)
+                .map(exchange -> ResponseEntity.ok()
+                        .header(STALE_HEADER, String.valueOf(exchangeService.isStale(exchange)))
+                        .body(exchange.getExchangeRate()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<ConversionResponseDTO>>> getExchangeRates(@Valid @RequestBody ExchangeBatchRequestDTO request) {
+        List<CurrencyPair> pairs = request.getItems().stream()
+                .map(item -> new CurrencyPair(item.getFromCurrency(), item.getToCurrency()))
+                .toList();
+        return exchangeService.getExchanges(pairs)
+                .map(exchanges -> request.getItems().stream()
+                        .map(item -> {
+                            Exchange exchange = exchanges.get(new CurrencyPair(item.getFromCurrency(), item.getToCurrency()));
+                            return ExchangeMapper.toConversionDTO(item, exchange, exchange != null && exchangeService.isStale(exchange));
+                        })
+                        .toList())
+                .map(results -> ResponseEntity.ok(results));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ConversionResponseDTO>> streamExchangeRates(@RequestParam List<String> pairs) {
+        if (pairs.isEmpty() || pairs.size() > MAX_WATCHED_PAIRS) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + MAX_WATCHED_PAIRS + " pairs are required"));
+        }
+        List<CurrencyPair> watched = new ArrayList<>();
+        for (String pair : pairs) {
+            String[] currencies = pair.split("-");
+            if (currencies.length != 2 || currencies[0].length() != 3 || currencies[1].length() != 3) {
+                return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid pair: " + pair));
+            }
+            watched.add(new CurrencyPair(currencies[0], currencies[1]));
+        }
+        return exchangeService.watchExchanges(watched)
+                .map(exchange -> ServerSentEvent.builder(ExchangeMapper.toConversionDTO(exchange, exchangeService.isStale(exchange)))
+                        .id(exchange.getFromCurrency() + "-" + exchange.getToCurrency())
+                        .event("rate")
+                        .build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.webflux.test.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConversionRequestDTO {
+    @NotBlank
+    @Size(min = 3, max = 3)
+    private String fromCurrency;
+    @NotBlank
+    @Size(min = 3, max = 3)
+    private String toCurrency;
+    @PositiveOrZero
+    private BigDecimal amount;
+}
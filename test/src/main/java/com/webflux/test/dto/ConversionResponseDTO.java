@@ -0,0 +1,23 @@
+package com.webflux.test.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConversionResponseDTO {
+    private String fromCurrency;
+    private String toCurrency;
+    private BigDecimal exchangeRate;
+    private BigDecimal amount;
+    private BigDecimal convertedAmount;
+    private boolean stale;
+    // Set instead of a rate when the pair could not be resolved
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.webflux.test.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExchangeBatchRequestDTO {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid ConversionRequestDTO> items;
+}
@@ -1,5 +1,7 @@
 package com.webflux.test.dto;
 
+import java.math.BigDecimal;
+
 public record ExternalAPIDTO(
     String result,
     String documentation,
@@ -10,5 +12,5 @@ public record ExternalAPIDTO(
     String time_next_update_utc,
     String base_code,
     String target_code,
-    Float conversion_rate
+    BigDecimal conversion_rate
 ) {}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.webflux.test.mapper;
 
+import com.webflux.test.dto.ConversionRequestDTO;
+import com.webflux.test.dto.ConversionResponseDTO;
 import com.webflux.test.dto.ExternalAPIDTO;
 import com.webflux.test.model.Exchange;
 
@@ -12,4 +14,28 @@ public class ExchangeMapper {
                 .exchangeRate(dto.conversion_rate())
                 .build();
     }
+
+    public static ConversionResponseDTO toConversionDTO(ConversionRequestDTO request, Exchange exchange, boolean stale) {
+        ConversionResponseDTO.ConversionResponseDTOBuilder response = ConversionResponseDTO.builder()
+                .fromCurrency(request.getFromCurrency())
+                .toCurrency(request.getToCurrency())
+                .amount(request.getAmount());
+        if (exchange == null) {
+            return response.error("Rate unavailable for " + request.getFromCurrency() + "/" + request.getToCurrency()).build();
+        }
+        response.exchangeRate(exchange.getExchangeRate()).stale(stale);
+        if (request.getAmount() != null) {
+            response.convertedAmount(request.getAmount().multiply(exchange.getExchangeRate()));
+        }
+        return response.build();
+    }
+
+    public static ConversionResponseDTO toConversionDTO(Exchange exchange, boolean stale) {
+        return ConversionResponseDTO.builder()
+                .fromCurrency(exchange.getFromCurrency())
+                .toCurrency(exchange.getToCurrency())
+                .exchangeRate(exchange.getExchangeRate())
+                .stale(stale)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,3 @@
+package com.webflux.test.model;
+
+public record CurrencyPair(String fromCurrency, String toCurrency) {}
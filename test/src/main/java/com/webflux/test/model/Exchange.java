@@ -1,5 +1,8 @@
 package com.webflux.test.model;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -32,6 +35,10 @@ public class Exchange {
     private String toCurrency;
 
     @Column("exchange_rate")
-    private Float exchangeRate;
+    private BigDecimal exchangeRate;
+
+    // TIMESTAMPTZ written by the database clock; an offset-aware type keeps staleness checks independent of JVM and DB time zones
+    @Column("updated_at")
+    private OffsetDateTime updatedAt;
 
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.webflux.test.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The pair-level queries the exchange lookup path needs, without the generic CRUD
+ * surface of {@link ExchangeRepo}, so it can be stubbed by hand.
+ */
+@NoRepositoryBean
+public interface ExchangeQueries extends Repository<Exchange, Long> {
+    public Mono<Exchange> findByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency);
+
+    public Flux<Exchange> findByFromCurrencyInAndToCurrencyIn(Collection<String> fromCurrencies, Collection<String> toCurrencies);
+
+    @Query("SELECT DISTINCT from_currency, to_currency FROM exchange_data")
+    public Flux<CurrencyPair> findDistinctPairs();
+
+    @Query("""
+            INSERT INTO exchange_data (from_currency, to_currency, exchange_rate)
+            VALUES (:fromCurrency, :toCurrency, :exchangeRate)
+            ON CONFLICT (from_currency, to_currency) DO UPDATE SET exchange_rate = EXCLUDED.exchange_rate, updated_at = now()
+            RETURNING *
+            """)
+    public Mono<Exchange> upsert(String fromCurrency, String toCurrency, BigDecimal exchangeRate);
+}
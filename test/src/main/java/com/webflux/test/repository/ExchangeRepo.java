@@ -5,9 +5,6 @@ import org.springframework.stereotype.Repository;
 
 import com.webflux.test.model.Exchange;
 
-import reactor.core.publisher.Mono;
-
 @Repository
-public interface ExchangeRepo extends R2dbcRepository<Exchange, Long> {
-    public Mono<Exchange> findByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency);
-}
\ No newline at end of file
+public interface ExchangeRepo extends R2dbcRepository<Exchange, Long>, ExchangeQueries {
+}
@@ -0,0 +1,86 @@
+package com.webflux.test.service;
+
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ExchangeMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter databaseLookups;
+    private final Counter upstreamLookups;
+
+    public ExchangeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.databaseLookups = Counter.builder("exchange.lookups").tag("source", "database").register(registry);
+        this.upstreamLookups = Counter.builder("exchange.lookups").tag("source", "upstream").register(registry);
+    }
+
+    public void recordDatabaseLookup() {
+        databaseLookups.increment();
+    }
+
+    public void recordUpstreamLookup() {
+        upstreamLookups.increment();
+    }
+
+    public <T> Mono<T> timeDatabase(String query, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call
+                    .doOnSuccess(result -> sample.stop(databaseTimer(query, "success")))
+                    .doOnError(ex -> sample.stop(databaseTimer(query, "error")));
+        });
+    }
+
+    public <T> Mono<ResponseEntity<T>> timeUpstream(Mono<ResponseEntity<T>> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call
+                    .doOnSuccess(response -> sample.stop(upstreamTimer(
+                            response == null ? "empty" : String.valueOf(response.getStatusCode().value()))))
+                    .doOnError(ex -> sample.stop(upstreamTimer(statusOf(ex))));
+        });
+    }
+
+    private Timer databaseTimer(String query, String outcome) {
+        return Timer.builder("exchange.db.lookup")
+                .tag("query", query)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Timer upstreamTimer(String status) {
+        return Timer.builder("exchange.upstream.request")
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String statusOf(Throwable ex) {
+        if (ex instanceof WebClientResponseException response) {
+            return String.valueOf(response.getStatusCode().value());
+        }
+        if (ex instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (ex instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (ex instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+}
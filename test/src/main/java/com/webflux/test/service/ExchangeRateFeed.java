@@ -0,0 +1,35 @@
+package com.webflux.test.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@Component
+public class ExchangeRateFeed {
+
+    // Best-effort multicast: a slow subscriber only misses its own updates and never
+    // holds back the refresh pipeline or the other watchers.
+    private final Sinks.Many<Exchange> sink = Sinks.many().multicast().directBestEffort();
+    private final Map<CurrencyPair, BigDecimal> lastPublished = new ConcurrentHashMap<>();
+
+    public void publish(Exchange exchange) {
+        CurrencyPair pair = new CurrencyPair(exchange.getFromCurrency(), exchange.getToCurrency());
+        BigDecimal previous = lastPublished.put(pair, exchange.getExchangeRate());
+        if (!RateGraph.sameRate(previous, exchange.getExchangeRate())) {
+            sink.emitNext(exchange, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    public Flux<Exchange> updates() {
+        return sink.asFlux();
+    }
+}
@@ -0,0 +1,77 @@
+package com.webflux.test.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.webflux.test.config.ExchangeRefreshProperties;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+import com.webflux.test.repository.ExchangeRepo;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "exchange.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExchangeRefresher {
+
+    private final ExchangeRepo exchangeRepo;
+    private final ExternalAPI externalAPI;
+    private final AsyncCache<CurrencyPair, Exchange> exchangeRateCache;
+    private final TransactionalOperator transactionalOperator;
+    private final ExchangeRefreshProperties properties;
+    private final ExchangeRateFeed exchangeRateFeed;
+
+    public ExchangeRefresher(ExchangeRepo exchangeRepo, ExternalAPI externalAPI,
+            AsyncCache<CurrencyPair, Exchange> exchangeRateCache, TransactionalOperator transactionalOperator,
+            ExchangeRefreshProperties properties, ExchangeRateFeed exchangeRateFeed) {
+        this.exchangeRepo = exchangeRepo;
+        this.externalAPI = externalAPI;
+        this.exchangeRateCache = exchangeRateCache;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+        this.exchangeRateFeed = exchangeRateFeed;
+    }
+
+    @Scheduled(initialDelayString = "${exchange.refresh.initial-delay:0s}", fixedDelayString = "${exchange.refresh.interval:15m}")
+    public Mono<Void> refreshAll() {
+        long start = System.nanoTime();
+        return exchangeRepo.findDistinctPairs()
+                .flatMap(pair -> externalAPI.getExchangeRate(pair.fromCurrency(), pair.toCurrency())
+                        .onErrorResume(ex -> {
+                            log.warn("Could not refresh {}/{}: {}", pair.fromCurrency(), pair.toCurrency(), ex.getMessage());
+                            return Mono.empty();
+                        }), properties.concurrency())
+                .buffer(properties.batchSize())
+                .concatMap(this::saveBatch)
+                .reduce(0, Integer::sum)
+                .doOnNext(count -> log.info("Refreshed {} exchange rates in {} ms", count, (System.nanoTime() - start) / 1_000_000))
+                .onErrorResume(ex -> {
+                    log.error("Exchange rate refresh failed: ", ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Integer> saveBatch(List<Exchange> batch) {
+        return Flux.fromIterable(batch)
+                .concatMap(exchange -> exchangeRepo.upsert(
+                        exchange.getFromCurrency(), exchange.getToCurrency(), exchange.getExchangeRate()))
+                .as(transactionalOperator::transactional)
+                .collectList()
+                .doOnNext(saved -> saved.forEach(exchange -> {
+                    exchangeRateCache.put(new CurrencyPair(exchange.getFromCurrency(), exchange.getToCurrency()),
+                            CompletableFuture.completedFuture(exchange));
+                    exchangeRateFeed.publish(exchange);
+                }))
+                .map(List::size);
+    }
+}
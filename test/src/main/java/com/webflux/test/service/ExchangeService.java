@@ -1,29 +1,237 @@
 package com.webflux.test.service;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Service;
 
-import com.webflux.test.repository.ExchangeRepo;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.webflux.test.config.ExchangeBatchProperties;
+import com.webflux.test.config.ExchangeCacheProperties;
+import com.webflux.test.config.ExternalAPIProperties;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+import com.webflux.test.repository.ExchangeQueries;
 
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Service
+@Slf4j
 public class ExchangeService implements IExchangeService {
 
-    private final ExchangeRepo exchangeRepo;
+    private final ExchangeQueries exchangeRepo;
     private final ExternalAPI externalAPI;
+    private final AsyncCache<CurrencyPair, Exchange> exchangeRateCache;
+    private final ExternalAPIProperties externalAPIProperties;
+    private final RateGraph rateGraph;
+    private final ExchangeBatchProperties batchProperties;
+    private final ExchangeRateFeed exchangeRateFeed;
+    private final ExchangeMetrics exchangeMetrics;
+    private final Mono<Set<CurrencyPair>> directPairs;
+    private final Set<CurrencyPair> refreshing = ConcurrentHashMap.newKeySet();
 
-    public ExchangeService(ExchangeRepo exchangeRepo, ExternalAPI externalAPI) {
+    public ExchangeService(ExchangeQueries exchangeRepo, ExternalAPI externalAPI,
+            AsyncCache<CurrencyPair, Exchange> exchangeRateCache, ExternalAPIProperties externalAPIProperties,
+            ExchangeCacheProperties cacheProperties, RateGraph rateGraph, ExchangeBatchProperties batchProperties,
+            ExchangeRateFeed exchangeRateFeed, ExchangeMetrics exchangeMetrics) {
         this.exchangeRepo = exchangeRepo;
         this.externalAPI = externalAPI;
+        this.exchangeRateCache = exchangeRateCache;
+        this.externalAPIProperties = externalAPIProperties;
+        this.rateGraph = rateGraph;
+        this.batchProperties = batchProperties;
+        this.exchangeRateFeed = exchangeRateFeed;
+        this.exchangeMetrics = exchangeMetrics;
+        // Non-leg rows are only written outside the pivot flow, so the set is re-read once per cache TTL
+        this.directPairs = !rateGraph.isEnabled()
+                ? Mono.just(Set.of())
+                : exchangeRepo.findDistinctPairs()
+                        .filter(pair -> !rateGraph.isLeg(pair))
+                        .collect(Collectors.toUnmodifiableSet())
+                        .cache(pairs -> cacheProperties.ttl(), ex -> Duration.ZERO, () -> cacheProperties.ttl());
     }
 
     @Override
-    public Mono<Float> getExchangeRate(String fromCurrency, String toCurrency) {
-        return exchangeRepo.findByFromCurrencyAndToCurrency(fromCurrency, toCurrency)
-                .switchIfEmpty(Mono.defer(() -> {
-                    return externalAPI.getExchangeRate(fromCurrency, toCurrency)
-                        .flatMap(data -> exchangeRepo.save(data));
-                }))
+    public Mono<BigDecimal> getExchangeRate(String fromCurrency, String toCurrency) {
+        return getExchange(fromCurrency, toCurrency)
                 .map(exchange -> exchange.getExchangeRate());
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<Exchange> getExchange(String fromCurrency, String toCurrency) {
+        if (fromCurrency.equals(toCurrency)) {
+            return Mono.just(rateGraph.identity(fromCurrency));
+        }
+        CurrencyPair pair = new CurrencyPair(fromCurrency, toCurrency);
+        return directPairs.flatMap(direct -> {
+            if (!rateGraph.isEnabled() || direct.contains(pair)) {
+                return getCachedExchange(pair);
+            }
+            return Mono.zip(getPivotLeg(fromCurrency), getPivotLeg(toCurrency))
+                    .filter(legs -> rateGraph.isUsable(legs.getT1()) && rateGraph.isUsable(legs.getT2()))
+                    .map(legs -> rateGraph.derive(fromCurrency, toCurrency, legs.getT1(), legs.getT2()));
+        });
+    }
+
+    private Mono<Exchange> getPivotLeg(String currency) {
+        if (rateGraph.isPivot(currency)) {
+            return Mono.just(rateGraph.identity(currency));
+        }
+        return getCachedExchange(rateGraph.leg(currency));
+    }
+
+    private Mono<Exchange> getCachedExchange(CurrencyPair pair) {
+        // Concurrent misses for the same pair share the in-flight future; cancelling
+        // one subscriber must not cancel the load for the others.
+        return Mono.fromFuture(() -> exchangeRateCache.get(pair, (key, executor) -> loadExchange(key).toFuture()), true);
+    }
+
+    @Override
+    public boolean isStale(Exchange exchange) {
+        return exchange.getUpdatedAt() != null
+                && exchange.getUpdatedAt().toInstant().isBefore(Instant.now().minus(externalAPIProperties.maxAge()));
+    }
+
+    @Override
+    public Mono<Map<CurrencyPair, Exchange>> getExchanges(Collection<CurrencyPair> pairs) {
+        return directPairs.flatMap(direct -> {
+            Set<CurrencyPair> legs = new LinkedHashSet<>();
+            pairs.forEach(pair -> legs.addAll(legsOf(pair, direct)));
+            return resolveLegs(legs)
+                    .map(resolved -> {
+                        Map<CurrencyPair, Exchange> exchanges = new HashMap<>();
+                        for (CurrencyPair pair : pairs) {
+                            Exchange exchange = combine(pair, resolved, direct);
+                            if (exchange != null) {
+                                exchanges.put(pair, exchange);
+                            }
+                        }
+                        return exchanges;
+                    });
+        });
+    }
+
+    @Override
+    public Flux<Exchange> watchExchanges(List<CurrencyPair> pairs) {
+        return directPairs.flatMapMany(direct -> {
+            Map<CurrencyPair, BigDecimal> lastSent = new ConcurrentHashMap<>();
+            Flux<Exchange> changes = exchangeRateFeed.updates()
+                    .map(leg -> new CurrencyPair(leg.getFromCurrency(), leg.getToCurrency()))
+                    .map(leg -> pairs.stream().filter(pair -> legsOf(pair, direct).contains(leg)).toList())
+                    .filter(affected -> !affected.isEmpty())
+                    .concatMap(affected -> getExchanges(affected).flatMapIterable(Map::values));
+            Flux<Exchange> snapshot = getExchanges(pairs).flatMapIterable(Map::values);
+            return Flux.merge(changes, snapshot)
+                    .filter(exchange -> !RateGraph.sameRate(
+                            lastSent.put(new CurrencyPair(exchange.getFromCurrency(), exchange.getToCurrency()), exchange.getExchangeRate()),
+                            exchange.getExchangeRate()))
+                    .onBackpressureBuffer(256, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST);
+        });
+    }
+
+    private List<CurrencyPair> legsOf(CurrencyPair pair, Set<CurrencyPair> direct) {
+        if (pair.fromCurrency().equals(pair.toCurrency())) {
+            return List.of();
+        }
+        if (!rateGraph.isEnabled() || direct.contains(pair)) {
+            return List.of(pair);
+        }
+        return Stream.of(pair.fromCurrency(), pair.toCurrency())
+                .filter(currency -> !rateGraph.isPivot(currency))
+                .map(rateGraph::leg)
+                .toList();
+    }
+
+    private Exchange combine(CurrencyPair pair, Map<CurrencyPair, Exchange> legs, Set<CurrencyPair> direct) {
+        if (pair.fromCurrency().equals(pair.toCurrency())) {
+            return rateGraph.identity(pair.fromCurrency());
+        }
+        if (!rateGraph.isEnabled() || direct.contains(pair)) {
+            return legs.get(pair);
+        }
+        Exchange fromLeg = rateGraph.isPivot(pair.fromCurrency()) ? rateGraph.identity(pair.fromCurrency()) : legs.get(rateGraph.leg(pair.fromCurrency()));
+        Exchange toLeg = rateGraph.isPivot(pair.toCurrency()) ? rateGraph.identity(pair.toCurrency()) : legs.get(rateGraph.leg(pair.toCurrency()));
+        if (!rateGraph.isUsable(fromLeg) || !rateGraph.isUsable(toLeg)) {
+            return null;
+        }
+        return rateGraph.derive(pair.fromCurrency(), pair.toCurrency(), fromLeg, toLeg);
+    }
+
+    private Mono<Map<CurrencyPair, Exchange>> resolveLegs(Set<CurrencyPair> legs) {
+        // asMap() reads do not record cache stats; the get() below counts each leg exactly once
+        Set<CurrencyPair> uncached = legs.stream()
+                .filter(pair -> !exchangeRateCache.asMap().containsKey(pair))
+                .collect(Collectors.toSet());
+        // One IN query covers every uncached leg; only legs missing from the table go upstream.
+        Mono<Map<CurrencyPair, Exchange>> stored = uncached.isEmpty()
+                ? Mono.just(Map.of())
+                : exchangeMetrics.timeDatabase("findIn", exchangeRepo.findByFromCurrencyInAndToCurrencyIn(
+                        uncached.stream().map(CurrencyPair::fromCurrency).collect(Collectors.toSet()),
+                        uncached.stream().map(CurrencyPair::toCurrency).collect(Collectors.toSet()))
+                    .collectMap(exchange -> new CurrencyPair(exchange.getFromCurrency(), exchange.getToCurrency())));
+        return stored.flatMap(storedByPair -> Flux.fromIterable(legs)
+                .flatMap(pair -> Mono.fromFuture(() -> exchangeRateCache.get(pair,
+                                (key, executor) -> loadExchange(key, storedByPair.get(key)).toFuture()), true)
+                        .map(exchange -> Tuples.of(pair, exchange))
+                        .onErrorResume(ex -> {
+                            log.warn("Could not resolve {}/{}: {}", pair.fromCurrency(), pair.toCurrency(), ex.getMessage());
+                            return Mono.empty();
+                        }), batchProperties.concurrency())
+                .collectMap(Tuple2::getT1, Tuple2::getT2));
+    }
+
+    private Mono<Exchange> loadExchange(CurrencyPair pair) {
+        return exchangeMetrics.timeDatabase("find", exchangeRepo.findByFromCurrencyAndToCurrency(pair.fromCurrency(), pair.toCurrency()))
+                .flatMap(stored -> refreshIfStale(pair, stored))
+                .switchIfEmpty(Mono.defer(() -> fetchAndStore(pair)));
+    }
+
+    private Mono<Exchange> loadExchange(CurrencyPair pair, Exchange stored) {
+        return stored != null ? refreshIfStale(pair, stored) : fetchAndStore(pair);
+    }
+
+    private Mono<Exchange> refreshIfStale(CurrencyPair pair, Exchange stored) {
+        exchangeMetrics.recordDatabaseLookup();
+        if (isStale(stored)) {
+            refreshInBackground(pair);
+        }
+        return Mono.just(stored);
+    }
+
+    // A stale row is answered right away; the upstream call runs off the request path and
+    // replaces the cached entry when it completes. One refresh per pair is in flight at a time.
+    private void refreshInBackground(CurrencyPair pair) {
+        if (!refreshing.add(pair)) {
+            return;
+        }
+        fetchAndStore(pair)
+                .doFinally(signal -> refreshing.remove(pair))
+                .subscribe(
+                        fresh -> exchangeRateCache.put(pair, CompletableFuture.completedFuture(fresh)),
+                        ex -> log.warn("Serving last known rate for {}/{}: {}", pair.fromCurrency(), pair.toCurrency(), ex.getMessage()));
+    }
+
+    private Mono<Exchange> fetchAndStore(CurrencyPair pair) {
+        exchangeMetrics.recordUpstreamLookup();
+        return externalAPI.getExchangeRate(pair.fromCurrency(), pair.toCurrency())
+                .flatMap(data -> exchangeMetrics.timeDatabase("upsert",
+                        exchangeRepo.upsert(data.getFromCurrency(), data.getToCurrency(), data.getExchangeRate())))
+                .doOnNext(exchangeRateFeed::publish);
+    }
+}
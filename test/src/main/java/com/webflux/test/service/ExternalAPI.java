@@ -1,5 +1,6 @@
 package com.webflux.test.service;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -7,24 +8,54 @@ import com.webflux.test.dto.ExternalAPIDTO;
 import com.webflux.test.mapper.ExchangeMapper;
 import com.webflux.test.model.Exchange;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import reactor.core.publisher.Mono;
 
 @Service
 public class ExternalAPI {
 
-    private final String apiUrl = "https://v6.exchangerate-api.com/v6/1227cf5d13731ad6c251bc00/pair/";
+    private static final String INSTANCE = "exchangeApi";
+
     private final WebClient webClient;
+    private final TimeLimiter timeLimiter;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final ExchangeMetrics exchangeMetrics;
 
-    public ExternalAPI(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(apiUrl).build();
+    public ExternalAPI(WebClient exchangeApiWebClient, TimeLimiterRegistry timeLimiterRegistry, BulkheadRegistry bulkheadRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry, ExchangeMetrics exchangeMetrics) {
+        this.webClient = exchangeApiWebClient;
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.retry = retryRegistry.retry(INSTANCE);
+        this.exchangeMetrics = exchangeMetrics;
     }
 
     public Mono<Exchange> getExchangeRate(String fromCurrency, String toCurrency) {
-        String url = apiUrl + fromCurrency + "/" + toCurrency;
-        return webClient.get()
-                .uri(url)
+        // Each attempt is time-limited and counted by the circuit breaker; retries wrap
+        // everything so an open breaker or a full bulkhead fails fast instead of retrying.
+        return exchangeMetrics.timeUpstream(webClient.get()
+                .uri("{fromCurrency}/{toCurrency}", fromCurrency, toCurrency)
                 .retrieve()
-                .bodyToMono(ExternalAPIDTO.class)
+                .toEntity(ExternalAPIDTO.class)
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry)))
+                .mapNotNull(ResponseEntity::getBody)
                 .map(ExchangeMapper::toModel);
     }
-}
\ No newline at end of file
+}
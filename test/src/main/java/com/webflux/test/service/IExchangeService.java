@@ -1,7 +1,24 @@
 package com.webflux.test.service;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IExchangeService {
-    Mono<Float> getExchangeRate(String fromCurrency, String toCurrency);
-}
\ No newline at end of file
+    Mono<BigDecimal> getExchangeRate(String fromCurrency, String toCurrency);
+
+    Mono<Exchange> getExchange(String fromCurrency, String toCurrency);
+
+    Mono<Map<CurrencyPair, Exchange>> getExchanges(Collection<CurrencyPair> pairs);
+
+    Flux<Exchange> watchExchanges(List<CurrencyPair> pairs);
+
+    boolean isStale(Exchange exchange);
+}
@@ -0,0 +1,89 @@
+package com.webflux.test.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.OffsetDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.webflux.test.config.ExchangePivotProperties;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+
+/**
+ * Rates are stored as pivot legs (1 pivot = r units of currency) and any cross
+ * rate, including inverses, is derived from the two legs in memory. Rows stored
+ * for a non-leg pair (written before the pivot graph existed) still take
+ * precedence for that exact pair.
+ */
+@Component
+public class RateGraph {
+
+    private final ExchangePivotProperties properties;
+
+    public RateGraph(ExchangePivotProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public String pivot() {
+        return properties.currency();
+    }
+
+    public boolean isPivot(String currency) {
+        return pivot().equals(currency);
+    }
+
+    public CurrencyPair leg(String currency) {
+        return new CurrencyPair(pivot(), currency);
+    }
+
+    public boolean isLeg(CurrencyPair pair) {
+        return isPivot(pair.fromCurrency());
+    }
+
+    // A missing, zero or negative leg cannot be divided through
+    public boolean isUsable(Exchange leg) {
+        return leg != null && leg.getExchangeRate() != null && leg.getExchangeRate().signum() > 0;
+    }
+
+    public Exchange identity(String currency) {
+        return Exchange.builder()
+                .fromCurrency(currency)
+                .toCurrency(currency)
+                .exchangeRate(BigDecimal.ONE)
+                .build();
+    }
+
+    public Exchange derive(String fromCurrency, String toCurrency, Exchange fromLeg, Exchange toLeg) {
+        if (!isUsable(fromLeg) || !isUsable(toLeg)) {
+            throw new IllegalArgumentException("Cannot derive " + fromCurrency + "/" + toCurrency + " from an unusable leg rate");
+        }
+        // 16 significant digits, well beyond the 8 decimals stored per leg
+        BigDecimal rate = toLeg.getExchangeRate().divide(fromLeg.getExchangeRate(), MathContext.DECIMAL64);
+        return Exchange.builder()
+                .fromCurrency(fromCurrency)
+                .toCurrency(toCurrency)
+                .exchangeRate(rate)
+                .updatedAt(oldest(fromLeg.getUpdatedAt(), toLeg.getUpdatedAt()))
+                .build();
+    }
+
+    // Numeric equality: 3.75 and 3.7500 read back from NUMERIC(19, 8) are the same rate
+    public static boolean sameRate(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static OffsetDateTime oldest(OffsetDateTime a, OffsetDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,12 @@
+-- Original schema. Databases created by the former init/init.sql are baselined at
+-- version 0, so this runs on them too and leaves the existing table untouched.
+CREATE TABLE IF NOT EXISTS exchange_data (
+    id serial PRIMARY KEY,
+    from_currency VARCHAR (15) NOT NULL,
+    to_currency VARCHAR (15) NOT NULL,
+    exchange_rate FLOAT NOT NULL
+);
+
+INSERT INTO exchange_data (from_currency, to_currency, exchange_rate)
+SELECT 'PEN', 'USD', 3.75
+WHERE NOT EXISTS (SELECT 1 FROM exchange_data WHERE from_currency = 'PEN' AND to_currency = 'USD');
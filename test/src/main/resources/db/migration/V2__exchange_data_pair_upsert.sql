@@ -0,0 +1,17 @@
+-- Rows written before this version have no timestamp; they are stamped with the migration time
+ALTER TABLE exchange_data ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+-- A TIMESTAMP column is read in the migration session's time zone
+ALTER TABLE exchange_data ALTER COLUMN updated_at TYPE TIMESTAMPTZ;
+-- FLOAT rounds rates in binary; NUMERIC keeps the provider's decimal digits
+ALTER TABLE exchange_data ALTER COLUMN exchange_rate TYPE NUMERIC(19, 8);
+
+-- Keep the most recently written row of each pair (highest id on ties) so the unique index can be built
+DELETE FROM exchange_data older
+USING exchange_data newer
+WHERE older.from_currency = newer.from_currency
+  AND older.to_currency = newer.to_currency
+  AND (older.updated_at, older.id) < (newer.updated_at, newer.id);
+
+-- Arbiter of INSERT ... ON CONFLICT (from_currency, to_currency) and an index-only lookup
+CREATE UNIQUE INDEX IF NOT EXISTS ux_exchange_data_pair
+    ON exchange_data (from_currency, to_currency) INCLUDE (exchange_rate);
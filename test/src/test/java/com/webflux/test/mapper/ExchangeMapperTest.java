@@ -0,0 +1,39 @@
+package com.webflux.test.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.webflux.test.dto.ConversionRequestDTO;
+import com.webflux.test.dto.ConversionResponseDTO;
+import com.webflux.test.dto.ExternalAPIDTO;
+import com.webflux.test.model.Exchange;
+
+class ExchangeMapperTest {
+
+    @Test
+    void keepsProviderDigitsThroughTheConversion() {
+        Exchange exchange = ExchangeMapper.toModel(new ExternalAPIDTO("success", null, null, null, null, null, null,
+                "USD", "PEN", new BigDecimal("3.47123457")));
+        ConversionRequestDTO request = new ConversionRequestDTO("USD", "PEN", new BigDecimal("1000000.01"));
+
+        ConversionResponseDTO response = ExchangeMapper.toConversionDTO(request, exchange, false);
+
+        assertThat(response.getExchangeRate()).isEqualByComparingTo("3.47123457");
+        assertThat(response.getConvertedAmount()).isEqualByComparingTo("3471234.6047123457");
+        assertThat(response.getError()).isNull();
+    }
+
+    @Test
+    void marksUnresolvedItemsWithAnError() {
+        ConversionRequestDTO request = new ConversionRequestDTO("USD", "XXX", BigDecimal.TEN);
+
+        ConversionResponseDTO response = ExchangeMapper.toConversionDTO(request, null, false);
+
+        assertThat(response.getExchangeRate()).isNull();
+        assertThat(response.getConvertedAmount()).isNull();
+        assertThat(response.getError()).isEqualTo("Rate unavailable for USD/XXX");
+    }
+}
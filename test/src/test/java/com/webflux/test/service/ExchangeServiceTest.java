@@ -0,0 +1,220 @@
+package com.webflux.test.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.webflux.test.config.ExchangeBatchProperties;
+import com.webflux.test.config.ExchangeCacheProperties;
+import com.webflux.test.config.ExchangePivotProperties;
+import com.webflux.test.config.ExternalAPIProperties;
+import com.webflux.test.model.CurrencyPair;
+import com.webflux.test.model.Exchange;
+import com.webflux.test.repository.ExchangeRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ExchangeServiceTest {
+
+    private MockWebServer upstream;
+    private ExchangeRepo exchangeRepo;
+    private ExternalAPI externalAPI;
+    private ExchangeService exchangeService;
+    private AsyncCache<CurrencyPair, Exchange> cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new MockWebServer();
+        upstream.start();
+        exchangeRepo = mock(ExchangeRepo.class);
+        cache = Caffeine.newBuilder().recordStats().buildAsync();
+        externalAPI = ExternalAPITest.externalAPI(upstream);
+        exchangeService = service(false);
+    }
+
+    private ExchangeService service(boolean pivot) {
+        return new ExchangeService(exchangeRepo, externalAPI,
+                cache,
+                new ExternalAPIProperties(upstream.url("/pair/").toString(), Duration.ofHours(1), Duration.ofSeconds(2), true, false, null),
+                new ExchangeCacheProperties(Duration.ofMinutes(10), 1000),
+                new RateGraph(new ExchangePivotProperties(pivot, "USD")), new ExchangeBatchProperties(8),
+                new ExchangeRateFeed(), new ExchangeMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void stopUpstream() throws IOException {
+        upstream.shutdown();
+    }
+
+    @Test
+    void servesStoredRateWithoutCallingUpstreamWhileFresh() {
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("USD", "PEN"))
+                .thenReturn(Mono.just(stored(OffsetDateTime.now().minusMinutes(5))));
+
+        StepVerifier.create(exchangeService.getExchange("USD", "PEN"))
+                .assertNext(exchange -> assertThat(exchangeService.isStale(exchange)).isFalse())
+                .verifyComplete();
+        assertThat(upstream.getRequestCount()).isZero();
+    }
+
+    @Test
+    void servesStaleRateWithoutWaitingForASlowUpstream() {
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("USD", "PEN"))
+                .thenReturn(Mono.just(stored(OffsetDateTime.now().minusHours(2))));
+        when(exchangeRepo.upsert("USD", "PEN", new BigDecimal("3.75")))
+                .thenReturn(Mono.just(stored("USD", "PEN", "3.75", OffsetDateTime.now())));
+        upstream.enqueue(ExternalAPITest.rate("USD", "PEN", "3.75").setBodyDelay(1, TimeUnit.SECONDS));
+
+        StepVerifier.create(exchangeService.getExchange("USD", "PEN"))
+                .assertNext(exchange -> {
+                    assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.70");
+                    assertThat(exchangeService.isStale(exchange)).isTrue();
+                })
+                .expectComplete()
+                .verify(Duration.ofMillis(500));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> StepVerifier.create(exchangeService.getExchange("USD", "PEN"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.75"))
+                .verifyComplete());
+        assertThat(upstream.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsStaleRateWhenBackgroundRefreshFails() {
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("USD", "PEN"))
+                .thenReturn(Mono.just(stored(OffsetDateTime.now().minusHours(2))));
+        upstream.enqueue(new MockResponse().setResponseCode(500));
+
+        StepVerifier.create(exchangeService.getExchange("USD", "PEN"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.70"))
+                .verifyComplete();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> upstream.getRequestCount() == 1);
+        StepVerifier.create(exchangeService.getExchange("USD", "PEN"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.70"))
+                .verifyComplete();
+        verify(exchangeRepo, never()).upsert(anyString(), anyString(), any());
+    }
+
+    @Test
+    void staleCheckComparesInstantsAcrossOffsets() {
+        // Two hours old, expressed in a zone far from the JVM default
+        Exchange exchange = stored(OffsetDateTime.now(ZoneOffset.ofHours(14)).minusHours(2));
+        Exchange fresh = stored(OffsetDateTime.now(ZoneOffset.ofHours(-12)).minusMinutes(5));
+
+        assertThat(exchangeService.isStale(exchange)).isTrue();
+        assertThat(exchangeService.isStale(fresh)).isFalse();
+    }
+
+    @Test
+    void prefersStoredNonLegRowsOverPivotDerivation() {
+        when(exchangeRepo.findDistinctPairs()).thenReturn(Flux.just(new CurrencyPair("PEN", "USD"), new CurrencyPair("USD", "EUR")));
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("PEN", "USD"))
+                .thenReturn(Mono.just(stored("PEN", "USD", "3.75", OffsetDateTime.now())));
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("USD", "EUR"))
+                .thenReturn(Mono.just(stored("USD", "EUR", "0.5", OffsetDateTime.now())));
+        ExchangeService pivotService = service(true);
+
+        StepVerifier.create(pivotService.getExchange("PEN", "USD"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.75"))
+                .verifyComplete();
+        StepVerifier.create(pivotService.getExchange("EUR", "USD"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("2"))
+                .verifyComplete();
+        assertThat(upstream.getRequestCount()).isZero();
+    }
+
+    @Test
+    void doesNotDeriveFromZeroLegRate() {
+        when(exchangeRepo.findDistinctPairs()).thenReturn(Flux.just(new CurrencyPair("USD", "EUR")));
+        when(exchangeRepo.findByFromCurrencyAndToCurrency("USD", "EUR"))
+                .thenReturn(Mono.just(stored("USD", "EUR", "0", OffsetDateTime.now())));
+
+        StepVerifier.create(service(true).getExchange("EUR", "USD"))
+                .verifyComplete();
+    }
+
+    @Test
+    void batchRecordsOneCacheLookupPerLeg() {
+        when(exchangeRepo.findByFromCurrencyInAndToCurrencyIn(any(), any()))
+                .thenReturn(Flux.just(stored(OffsetDateTime.now())));
+        List<CurrencyPair> pairs = List.of(new CurrencyPair("USD", "PEN"));
+
+        StepVerifier.create(exchangeService.getExchanges(pairs)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(exchangeService.getExchanges(pairs)).expectNextCount(1).verifyComplete();
+
+        CacheStats stats = cache.synchronous().stats();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBatchesOverlappingARefreshDoNotTripTheBulkhead() {
+        upstream.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String[] path = request.getPath().split("/");
+                return ExternalAPITest.rate(path[2], path[3], "1.5").setBodyDelay(300, TimeUnit.MILLISECONDS);
+            }
+        });
+        when(exchangeRepo.findByFromCurrencyInAndToCurrencyIn(any(), any())).thenReturn(Flux.empty());
+        when(exchangeRepo.upsert(anyString(), anyString(), any())).thenAnswer(invocation -> Mono.just(
+                stored(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2).toString(), OffsetDateTime.now())));
+        // exchange.batch.concurrency is 8; two batches of 16 uncached pairs and a 4-call refresh overlap
+        List<CurrencyPair> first = IntStream.range(0, 16).mapToObj(i -> new CurrencyPair("USD", "A" + i)).toList();
+        List<CurrencyPair> second = IntStream.range(0, 16).mapToObj(i -> new CurrencyPair("USD", "B" + i)).toList();
+        Flux<Exchange> refresh = Flux.range(0, 4).flatMap(i -> externalAPI.getExchangeRate("USD", "R" + i));
+
+        StepVerifier.create(Mono.zip(exchangeService.getExchanges(first), exchangeService.getExchanges(second), refresh.collectList()))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).hasSize(16);
+                    assertThat(results.getT2()).hasSize(16);
+                    assertThat(results.getT3()).hasSize(4);
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(15));
+        assertThat(upstream.getRequestCount()).isEqualTo(36);
+    }
+
+    private static Exchange stored(OffsetDateTime updatedAt) {
+        return stored("USD", "PEN", "3.70", updatedAt);
+    }
+
+    private static Exchange stored(String fromCurrency, String toCurrency, String rate, OffsetDateTime updatedAt) {
+        return Exchange.builder()
+                .id(1L)
+                .fromCurrency(fromCurrency)
+                .toCurrency(toCurrency)
+                .exchangeRate(new BigDecimal(rate))
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
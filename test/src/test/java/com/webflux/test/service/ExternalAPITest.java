@@ -0,0 +1,188 @@
+package com.webflux.test.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.webflux.test.config.UpstreamFailurePredicate;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import reactor.test.StepVerifier;
+
+class ExternalAPITest {
+
+    private MockWebServer upstream;
+    private ExternalAPI externalAPI;
+
+    @BeforeEach
+    void startUpstream() throws IOException {
+        upstream = new MockWebServer();
+        upstream.start();
+        externalAPI = externalAPI(upstream);
+    }
+
+    @AfterEach
+    void stopUpstream() throws IOException {
+        upstream.shutdown();
+    }
+
+    @Test
+    void retriesTransientFailures() {
+        upstream.enqueue(new MockResponse().setResponseCode(503));
+        upstream.enqueue(rate("USD", "PEN", "3.75"));
+
+        StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                .assertNext(exchange -> assertThat(exchange.getExchangeRate()).isEqualByComparingTo("3.75"))
+                .verifyComplete();
+        assertThat(upstream.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        upstream.enqueue(new MockResponse().setResponseCode(404));
+
+        StepVerifier.create(externalAPI.getExchangeRate("USD", "XXX"))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+        assertThat(upstream.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void timesOutEveryAttemptOfASlowUpstream() {
+        for (int i = 0; i < 3; i++) {
+            upstream.enqueue(rate("USD", "PEN", "3.75").setHeadersDelay(3, TimeUnit.SECONDS));
+        }
+
+        StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(15));
+        assertThat(upstream.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailures() {
+        for (int i = 0; i < 4; i++) {
+            upstream.enqueue(new MockResponse().setResponseCode(500));
+            StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                    .expectError(WebClientResponseException.InternalServerError.class)
+                    .verify();
+        }
+
+        StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        assertThat(upstream.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void clientErrorsLeaveTheCircuitClosed() {
+        CircuitBreakerRegistry circuitBreakers = circuitBreakers();
+        ExternalAPI externalAPI = externalAPI(upstream, new SimpleMeterRegistry(), circuitBreakers);
+        for (int i = 0; i < 6; i++) {
+            upstream.enqueue(new MockResponse().setResponseCode(404));
+            StepVerifier.create(externalAPI.getExchangeRate("USD", "XXX"))
+                    .expectError(WebClientResponseException.NotFound.class)
+                    .verify();
+        }
+        upstream.enqueue(rate("USD", "PEN", "3.75"));
+
+        StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(circuitBreakers.circuitBreaker("exchangeApi").getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tooManyRequestsCountsAsAFailure() {
+        CircuitBreakerRegistry circuitBreakers = circuitBreakers();
+        ExternalAPI externalAPI = externalAPI(upstream, new SimpleMeterRegistry(), circuitBreakers);
+        for (int i = 0; i < 12; i++) {
+            upstream.enqueue(new MockResponse().setResponseCode(429));
+        }
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(externalAPI.getExchangeRate("USD", "PEN"))
+                    .expectError()
+                    .verify(Duration.ofSeconds(5));
+        }
+
+        assertThat(circuitBreakers.circuitBreaker("exchangeApi").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void tagsUpstreamTimerWithTheActualStatus() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExternalAPI instrumented = externalAPI(upstream, registry);
+        upstream.enqueue(rate("USD", "PEN", "3.75").setResponseCode(203));
+
+        StepVerifier.create(instrumented.getExchangeRate("USD", "PEN"))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(registry.get("exchange.upstream.request").tag("status", "203").timer().count()).isEqualTo(1);
+    }
+
+    static MockResponse rate(String from, String to, String rate) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"result\":\"success\",\"base_code\":\"" + from + "\",\"target_code\":\"" + to
+                        + "\",\"conversion_rate\":" + rate + "}");
+    }
+
+    // Same policies as the exchangeApi instance in application.yaml, with shorter waits and a smaller window
+    static ExternalAPI externalAPI(MockWebServer upstream) {
+        return externalAPI(upstream, new SimpleMeterRegistry());
+    }
+
+    static ExternalAPI externalAPI(MockWebServer upstream, MeterRegistry registry) {
+        return externalAPI(upstream, registry, circuitBreakers());
+    }
+
+    static ExternalAPI externalAPI(MockWebServer upstream, MeterRegistry registry, CircuitBreakerRegistry circuitBreakers) {
+        WebClient webClient = WebClient.builder().baseUrl(upstream.url("/pair/").toString()).build();
+        return new ExternalAPI(webClient,
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(2)).build()),
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(20).maxWaitDuration(Duration.ofMillis(250)).build()),
+                circuitBreakers,
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(3)
+                        .waitDuration(Duration.ofMillis(10))
+                        .retryExceptions(TimeoutException.class, WebClientRequestException.class,
+                                WebClientResponseException.TooManyRequests.class, WebClientResponseException.BadGateway.class,
+                                WebClientResponseException.ServiceUnavailable.class, WebClientResponseException.GatewayTimeout.class)
+                        .build()),
+                new ExchangeMetrics(registry));
+    }
+
+    static CircuitBreakerRegistry circuitBreakers() {
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new UpstreamFailurePredicate())
+                .build());
+    }
+}